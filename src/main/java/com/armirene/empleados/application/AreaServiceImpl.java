@@ -1,8 +1,10 @@
 package com.armirene.empleados.application;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,7 +33,24 @@ public class AreaServiceImpl implements AreaService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "areas", key = "'todos'")
     public List<Area> findAll() {
         return areaRepository.findAll();
     }
+
+    /**
+     * Busca el área por su ID. El resultado se guarda en la caché del catálogo,
+     * así que las creaciones y actualizaciones de empleados no consultan la base
+     * de datos para resolverlo.
+     *
+     * @param id el ID a buscar.
+     * @return un {@link Optional} con el registro encontrado, o vacío si no
+     *         existe.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "areas", key = "#id", condition = "#id != null")
+    public Optional<Area> findById(Integer id) {
+        return id != null ? areaRepository.findById(id) : Optional.empty();
+    }
 }
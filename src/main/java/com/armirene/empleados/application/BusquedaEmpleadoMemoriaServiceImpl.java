@@ -0,0 +1,131 @@
+package com.armirene.empleados.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.armirene.empleados.domain.BusquedaEmpleadoService;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.util.TrigramaUtil;
+
+/**
+ * Búsqueda de empleados por texto con un índice invertido de trigramas en
+ * memoria, para las bases de datos que no tienen {@code pg_trgm}, como la base
+ * embebida de las pruebas. El índice se carga al iniciar y se actualiza con cada
+ * empleado guardado o eliminado. Se activa con
+ * {@code empleados.busqueda.motor=memoria}.
+ */
+@Service
+@ConditionalOnProperty(name = "empleados.busqueda.motor", havingValue = "memoria")
+public class BusquedaEmpleadoMemoriaServiceImpl implements BusquedaEmpleadoService {
+
+    /**
+     * Fracción mínima de los trigramas buscados que debe tener un empleado, igual
+     * al umbral por defecto de {@code word_similarity} en {@code pg_trgm}.
+     */
+    private static final double UMBRAL = 0.6;
+
+    private final Map<String, Set<Long>> indice = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> textos = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Carga en el índice los empleados que ya existen en la base de datos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        jdbcTemplate.query("SELECT id, primer_nombre, otros_nombres, primer_apellido, segundo_apellido, correo,"
+                + " numero_identificacion FROM empleado", resultSet -> {
+                    Empleado empleado = new Empleado();
+                    empleado.setId(resultSet.getLong("id"));
+                    empleado.setPrimerNombre(resultSet.getString("primer_nombre"));
+                    empleado.setOtrosNombres(resultSet.getString("otros_nombres"));
+                    empleado.setPrimerApellido(resultSet.getString("primer_apellido"));
+                    empleado.setSegundoApellido(resultSet.getString("segundo_apellido"));
+                    empleado.setCorreo(resultSet.getString("correo"));
+                    empleado.setNumeroIdentificacion(resultSet.getString("numero_identificacion"));
+                    indexar(empleado);
+                });
+    }
+
+    /**
+     * Busca los empleados que contienen el texto buscado o que comparten con él al
+     * menos el {@value #UMBRAL} de sus trigramas, lo que cubre prefijos,
+     * subcadenas y errores de digitación. Los resultados se ordenan por la
+     * cantidad de trigramas en común.
+     *
+     * @param texto  el texto buscado.
+     * @param limite la cantidad máxima de resultados.
+     * @return los IDs de los empleados encontrados, del más parecido al menos
+     *         parecido.
+     */
+    @Override
+    public List<Long> buscar(String texto, int limite) {
+        String consulta = texto.trim().toLowerCase();
+        Set<String> buscados = TrigramaUtil.trigramas(consulta);
+        if (buscados.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> coincidencias = new HashMap<>();
+        for (String trigrama : buscados) {
+            for (Long id : indice.getOrDefault(trigrama, Set.of())) {
+                coincidencias.merge(id, 1, Integer::sum);
+            }
+        }
+
+        int minimo = (int) Math.ceil(buscados.size() * UMBRAL);
+        List<Map.Entry<Long, Integer>> encontrados = new ArrayList<>();
+        for (Map.Entry<Long, Integer> coincidencia : coincidencias.entrySet()) {
+            if (coincidencia.getValue() >= minimo
+                    || textos.getOrDefault(coincidencia.getKey(), "").contains(consulta)) {
+                encontrados.add(coincidencia);
+            }
+        }
+        encontrados.sort(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        List<Long> ids = new ArrayList<>(Math.min(limite, encontrados.size()));
+        for (int i = 0; i < encontrados.size() && i < limite; i++) {
+            ids.add(encontrados.get(i).getKey());
+        }
+        return ids;
+    }
+
+    @Override
+    public synchronized void indexar(Empleado empleado) {
+        eliminar(empleado.getId());
+        String textoBusqueda = TrigramaUtil.textoBusqueda(empleado).toLowerCase();
+        for (String trigrama : TrigramaUtil.trigramas(textoBusqueda)) {
+            indice.computeIfAbsent(trigrama, clave -> ConcurrentHashMap.newKeySet()).add(empleado.getId());
+        }
+        textos.put(empleado.getId(), textoBusqueda);
+    }
+
+    @Override
+    public synchronized void eliminar(Long idEmpleado) {
+        String anterior = textos.remove(idEmpleado);
+        if (anterior == null) {
+            return;
+        }
+        for (String trigrama : TrigramaUtil.trigramas(anterior)) {
+            Set<Long> ids = indice.get(trigrama);
+            if (ids != null) {
+                ids.remove(idEmpleado);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.armirene.empleados.application;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.armirene.empleados.domain.BusquedaEmpleadoService;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+/**
+ * Búsqueda de empleados por texto con la extensión {@code pg_trgm} de
+ * PostgreSQL. El texto de búsqueda es una expresión sobre las columnas del
+ * empleado con un índice GIN de trigramas, así que la base de datos mantiene el
+ * índice al día y la consulta no recorre la tabla. La extensión y el índice los
+ * crea la migración {@code V3__indices_busqueda}. Se activa con
+ * {@code empleados.busqueda.motor=postgresql}.
+ */
+@Service
+@ConditionalOnProperty(name = "empleados.busqueda.motor", havingValue = "postgresql")
+public class BusquedaEmpleadoPostgresServiceImpl implements BusquedaEmpleadoService {
+
+    /**
+     * Debe coincidir exactamente con la expresión del índice de
+     * {@code db/migration/postgresql/V3__indices_busqueda.sql} para que
+     * PostgreSQL lo use.
+     */
+    private static final String TEXTO = "lower(coalesce(primer_nombre, '') || ' ' || coalesce(otros_nombres, '')"
+            + " || ' ' || coalesce(primer_apellido, '') || ' ' || coalesce(segundo_apellido, '')"
+            + " || ' ' || coalesce(correo, '') || ' ' || coalesce(numero_identificacion, ''))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Busca los empleados cuyo texto contiene el texto buscado o una palabra
+     * parecida ({@code word_similarity} de {@code pg_trgm}), lo que cubre
+     * prefijos, subcadenas y errores de digitación. Ambas condiciones usan el
+     * índice de trigramas.
+     *
+     * @param texto  el texto buscado.
+     * @param limite la cantidad máxima de resultados.
+     * @return los IDs de los empleados encontrados, del más parecido al menos
+     *         parecido.
+     */
+    @Override
+    public List<Long> buscar(String texto, int limite) {
+        String consulta = texto.trim().toLowerCase();
+        String contiene = "%" + consulta.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return jdbcTemplate.queryForList("SELECT id FROM empleado WHERE ? <% " + TEXTO + " OR " + TEXTO
+                + " LIKE ? ORDER BY word_similarity(?, " + TEXTO + ") DESC, id LIMIT ?",
+                Long.class, consulta, contiene, consulta, limite);
+    }
+
+    @Override
+    public void indexar(Empleado empleado) {
+        // El índice de trigramas lo mantiene PostgreSQL.
+    }
+
+    @Override
+    public void eliminar(Long idEmpleado) {
+        // El índice de trigramas lo mantiene PostgreSQL.
+    }
+}
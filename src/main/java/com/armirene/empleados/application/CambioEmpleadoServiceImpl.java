@@ -0,0 +1,307 @@
+package com.armirene.empleados.application;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.armirene.empleados.domain.CambioEmpleadoService;
+import com.armirene.empleados.infrastructure.dto.CambioEmpleadoDto;
+import com.armirene.empleados.infrastructure.entity.CambioEmpleado;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.PublicacionCambios;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException;
+import com.armirene.empleados.infrastructure.repository.CambioEmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PublicacionCambiosRepository;
+import com.armirene.empleados.infrastructure.util.ReceptorCambios;
+import com.armirene.empleados.infrastructure.util.enums.TipoCambio;
+
+/**
+ * Registro y publicación de los cambios de empleados. Cada alta, edición o baja
+ * registra su cambio en la tabla {@code cambio_empleado} dentro de su propia
+ * transacción, así que un cambio existe si y solo si la escritura se confirmó.
+ * Una tarea en segundo plano asigna a los cambios confirmados una posición
+ * consecutiva y se los entrega a los receptores suscritos. Los consumidores
+ * retoman la lectura por posición y no por ID, porque los IDs se asignan al
+ * insertar y las transacciones pueden confirmarse en otro orden.
+ */
+@Service
+public class CambioEmpleadoServiceImpl implements CambioEmpleadoService {
+
+    private static final Logger log = LoggerFactory.getLogger(CambioEmpleadoServiceImpl.class);
+
+    private static final int TAMANO_LOTE_PUBLICACION = 500;
+
+    private static final int LIMITE_MAXIMO = 1000;
+
+    @Autowired
+    private CambioEmpleadoRepository cambioEmpleadoRepository;
+
+    @Autowired
+    private PublicacionCambiosRepository publicacionCambiosRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${empleados.cambios.retencion:7d}")
+    private Duration retencion;
+
+    private final AtomicBoolean pendiente = new AtomicBoolean(true);
+
+    private final Map<ReceptorCambios, Suscripcion> suscripciones = new ConcurrentHashMap<>();
+
+    /**
+     * Registra el cambio de un empleado ya escrito en la transacción actual.
+     *
+     * @param empleado el empleado, con la versión resultante de la escritura.
+     * @param tipo     el tipo de cambio.
+     */
+    @Override
+    @Transactional
+    public void registrar(Empleado empleado, TipoCambio tipo) {
+        CambioEmpleado cambio = new CambioEmpleado();
+        cambio.setIdEmpleado(empleado.getId());
+        cambio.setTipo(tipo.getValor());
+        cambio.setVersion(empleado.getVersion());
+        cambio.setFecha(new Timestamp(System.currentTimeMillis()));
+        cambioEmpleadoRepository.save(cambio);
+        marcarPendiente();
+    }
+
+    /**
+     * Registra un cambio por cada empleado que cumple el filtro, con su versión
+     * actual, sin cargar los empleados.
+     *
+     * @param specification filtros de los empleados.
+     * @param tipo          el tipo de cambio.
+     */
+    @Override
+    @Transactional
+    public void registrar(Specification<Empleado> specification, TipoCambio tipo) {
+        cambioEmpleadoRepository.registrar(specification, tipo, 0, new Timestamp(System.currentTimeMillis()));
+        marcarPendiente();
+    }
+
+    /**
+     * Registra la actualización de los empleados que cumplen el filtro. Se llama
+     * antes de la sentencia {@code UPDATE} masiva, porque la actualización puede
+     * cambiar los datos por los que se filtra, y registra la versión que dejará
+     * esa sentencia.
+     *
+     * @param specification filtros de los empleados a actualizar.
+     */
+    @Override
+    @Transactional
+    public void registrarActualizacion(Specification<Empleado> specification) {
+        cambioEmpleadoRepository.registrar(specification, TipoCambio.ACTUALIZADO, 1,
+                new Timestamp(System.currentTimeMillis()));
+        marcarPendiente();
+    }
+
+    /**
+     * Obtiene la posición del último cambio publicado, desde la que empieza un
+     * consumidor que no necesita los cambios anteriores.
+     *
+     * @return la última posición publicada, o 0 si aún no hay cambios.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long obtenerUltimaPosicion() {
+        return publicacionCambiosRepository.obtenerUltimaPosicion();
+    }
+
+    /**
+     * Obtiene los cambios publicados después de una posición. La última posición
+     * se lee antes que los cambios: como las posiciones no tienen huecos, si hay
+     * posiciones posteriores pero el primer cambio no es el siguiente, los
+     * cambios intermedios ya se depuraron.
+     *
+     * @param desde  la posición del último cambio que recibió el consumidor.
+     * @param limite la cantidad máxima de cambios.
+     * @return los cambios en orden de posición, o vacío si no hay nuevos.
+     * @throws IllegalArgumentException                     si la posición o el
+     *                                                      límite no son válidos.
+     * @throws EmpleadoException.CambiosDepuradosException si ya no se conservan
+     *                                                      los cambios siguientes
+     *                                                      a la posición.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CambioEmpleadoDto> buscar(long desde, int limite) {
+        if (desde < 0) {
+            throw new IllegalArgumentException("La posición no puede ser negativa.");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + LIMITE_MAXIMO + ".");
+        }
+        if (publicacionCambiosRepository.obtenerUltimaPosicion() <= desde) {
+            return List.of();
+        }
+        List<CambioEmpleadoDto> cambios = cambioEmpleadoRepository.buscarDesde(desde, PageRequest.of(0, limite));
+        if (cambios.isEmpty() || cambios.get(0).getPosicion() != desde + 1) {
+            throw new EmpleadoException.CambiosDepuradosException("Los cambios posteriores a la posición " + desde
+                    + " ya no se conservan. Consulte el listado completo y vuelva a suscribirse sin posición.");
+        }
+        return cambios;
+    }
+
+    /**
+     * Suscribe un receptor a los cambios posteriores a una posición. Los cambios
+     * ya publicados se entregan de inmediato; los siguientes, en cada ejecución
+     * de {@link #difundir()}.
+     *
+     * @param desde    la posición del último cambio que recibió el consumidor.
+     * @param limite   la cantidad máxima de cambios por entrega.
+     * @param receptor el receptor de los cambios.
+     */
+    @Override
+    public void suscribir(long desde, int limite, ReceptorCambios receptor) {
+        List<CambioEmpleadoDto> cambios = buscar(desde, limite);
+        if (!cambios.isEmpty() && !receptor.recibir(cambios)) {
+            return;
+        }
+        long posicion = cambios.isEmpty() ? desde : cambios.get(cambios.size() - 1).getPosicion();
+        suscripciones.put(receptor, new Suscripcion(limite, posicion));
+    }
+
+    @Override
+    public void cancelar(ReceptorCambios receptor) {
+        suscripciones.remove(receptor);
+    }
+
+    /**
+     * Asigna posición a un lote de cambios confirmados, en orden de registro.
+     * Primero verifica en una transacción de solo lectura si hay cambios
+     * pendientes, así la verificación periódica no abre escrituras en vano y con
+     * réplicas se hace en ellas. Solo si los hay bloquea la fila de
+     * {@code publicacion_cambios}, y después vuelve a consultarlos porque otra
+     * instancia pudo publicarlos mientras tanto.
+     *
+     * @return la cantidad de cambios publicados.
+     */
+    @Override
+    public int publicar() {
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        Boolean hayPendientes = lectura.execute(
+                status -> !cambioEmpleadoRepository.buscarPendientes(PageRequest.of(0, 1)).isEmpty());
+        if (!Boolean.TRUE.equals(hayPendientes)) {
+            return 0;
+        }
+        Integer publicados = new TransactionTemplate(transactionManager).execute(status -> {
+            PageRequest lote = PageRequest.of(0, TAMANO_LOTE_PUBLICACION);
+            PublicacionCambios publicacion = publicacionCambiosRepository.bloquear();
+            List<CambioEmpleado> cambios = cambioEmpleadoRepository.buscarPendientes(lote);
+            long posicion = publicacion.getUltimaPosicion();
+            for (CambioEmpleado cambio : cambios) {
+                cambio.setPosicion(++posicion);
+            }
+            publicacion.setUltimaPosicion(posicion);
+            return cambios.size();
+        });
+        return publicados != null ? publicados : 0;
+    }
+
+    /**
+     * Publica los cambios confirmados y entrega a cada receptor los que le
+     * faltan. Se ejecuta siempre en el mismo hilo, así que un receptor lento
+     * retrasa a los demás. Si hay receptores se publica aunque esta instancia no
+     * haya registrado cambios, para no depender de que la instancia que los
+     * registró siga activa.
+     */
+    @Override
+    public void difundir() {
+        try {
+            if (pendiente.getAndSet(false) || !suscripciones.isEmpty()) {
+                while (publicar() == TAMANO_LOTE_PUBLICACION) {
+                    // Quedan más cambios pendientes que los de un lote.
+                }
+            }
+            if (suscripciones.isEmpty()) {
+                return;
+            }
+            long ultimaPosicion = publicacionCambiosRepository.obtenerUltimaPosicion();
+            suscripciones.forEach((receptor, suscripcion) -> entregar(receptor, suscripcion, ultimaPosicion));
+        } catch (RuntimeException e) {
+            pendiente.set(true);
+            log.warn("No fue posible publicar los cambios de empleados; se reintentará.", e);
+        }
+    }
+
+    /**
+     * Elimina los cambios publicados con más antigüedad que
+     * {@code empleados.cambios.retencion}. Se eliminan por posición, hasta la del
+     * último cambio vencido, para que los cambios conservados no tengan huecos.
+     *
+     * @return la cantidad de cambios eliminados.
+     */
+    @Override
+    @Transactional
+    public int depurar() {
+        int eliminados = cambioEmpleadoRepository
+                .depurar(new Timestamp(System.currentTimeMillis() - retencion.toMillis()));
+        if (eliminados > 0) {
+            log.info("Cambios de empleados depurados: {}", eliminados);
+        }
+        return eliminados;
+    }
+
+    private void entregar(ReceptorCambios receptor, Suscripcion suscripcion, long ultimaPosicion) {
+        while (suscripcion.posicion < ultimaPosicion) {
+            List<CambioEmpleadoDto> cambios = cambioEmpleadoRepository.buscarDesde(suscripcion.posicion,
+                    PageRequest.of(0, suscripcion.limite));
+            if (cambios.isEmpty()) {
+                return;
+            }
+            suscripcion.posicion = cambios.get(cambios.size() - 1).getPosicion();
+            if (!receptor.recibir(cambios)) {
+                suscripciones.remove(receptor);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marca que hay cambios por publicar cuando se confirme la transacción
+     * actual.
+     */
+    private void marcarPendiente() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendiente.set(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendiente.set(true);
+            }
+        });
+    }
+
+    private static class Suscripcion {
+
+        private final int limite;
+
+        private long posicion;
+
+        Suscripcion(int limite, long posicion) {
+            this.limite = limite;
+            this.posicion = posicion;
+        }
+    }
+}
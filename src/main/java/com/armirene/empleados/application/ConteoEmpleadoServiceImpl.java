@@ -0,0 +1,77 @@
+package com.armirene.empleados.application;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.armirene.empleados.domain.ConteoEmpleadoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+
+/**
+ * Implementación del servicio de conteo de empleados para el listado con total
+ * aproximado. El total de cada combinación de filtros se cuenta una vez y se
+ * guarda en la caché {@code conteosEmpleados}, que se vacía al confirmarse
+ * cada escritura de empleados y expira a los pocos minutos.
+ */
+@Service
+public class ConteoEmpleadoServiceImpl implements ConteoEmpleadoService {
+
+    private static final String CACHE_CONTEOS = "conteosEmpleados";
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    /**
+     * Cuenta los empleados que cumplen los filtros, o devuelve el conteo guardado
+     * para los mismos filtros.
+     *
+     * @param filter        los filtros del listado; son la clave de la caché.
+     * @param specification la especificación construida a partir de los filtros.
+     * @return la cantidad de empleados, posiblemente desactualizada hasta la
+     *         expiración de la caché si otra instancia modificó la tabla.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE_CONTEOS, key = "#filter.toString()")
+    public long contar(EmpleadoDto filter, Specification<Empleado> specification) {
+        return empleadoRepository.count(specification);
+    }
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Vacía los conteos guardados. Se invoca con cada escritura de empleados;
+     * dentro de una transacción lo hace después de confirmarla, porque si se
+     * vaciara antes, un listado concurrente volvería a guardar el conteo anterior
+     * a la escritura y lo mantendría hasta la expiración.
+     */
+    @Override
+    public void limpiarCache() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            vaciar();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                vaciar();
+            }
+        });
+    }
+
+    private void vaciar() {
+        Cache conteos = cacheManager.getCache(CACHE_CONTEOS);
+        if (conteos != null) {
+            conteos.clear();
+        }
+    }
+}
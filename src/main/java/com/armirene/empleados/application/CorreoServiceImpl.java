@@ -0,0 +1,143 @@
+package com.armirene.empleados.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.armirene.empleados.domain.CorreoService;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Implementación del servicio de asignación de correos corporativos.
+ * Cada prefijo {@code nombre.apellido@dominio} tiene un contador en la tabla
+ * {@code correo_secuencia}; asignar un correo es un incremento atómico de ese
+ * contador, por lo que el costo no depende de cuántos empleados comparten el
+ * mismo nombre y dos creaciones concurrentes nunca obtienen el mismo correo.
+ */
+@Service
+public class CorreoServiceImpl implements CorreoService {
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private DistributionSummary colisiones;
+
+    private Counter correosConColision;
+
+    @PostConstruct
+    void registrarMetricas() {
+        colisiones = DistributionSummary.builder("empleados.correo.colisiones")
+                .description("Correos existentes con el mismo prefijo al asignar uno nuevo")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry);
+        correosConColision = Counter.builder("empleados.correo.colisiones.asignaciones")
+                .description("Correos asignados con sufijo porque el prefijo ya estaba en uso")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Asigna el siguiente correo libre para el prefijo indicado.
+     * El incremento bloquea la fila del contador hasta el final de la
+     * transacción, así que las asignaciones concurrentes del mismo prefijo se
+     * serializan y, si la transacción se revierte, el sufijo no se pierde.
+     *
+     * @param correoBase la parte local del correo, {@code nombre.apellido}.
+     * @param dominio    el dominio del país del empleado.
+     * @return {@code nombre.apellido@dominio} o {@code nombre.apellido.n@dominio}.
+     */
+    @Override
+    @Transactional
+    public String asignarCorreo(String correoBase, String dominio) {
+        return asignarCorreos(correoBase, dominio, 1).get(0);
+    }
+
+    /**
+     * Asigna de una vez varios correos consecutivos para el mismo prefijo, con un
+     * solo incremento del contador. Se usa en la importación masiva.
+     *
+     * @param correoBase la parte local del correo, {@code nombre.apellido}.
+     * @param dominio    el dominio del país de los empleados.
+     * @param cantidad   la cantidad de correos a asignar.
+     * @return los correos asignados, en orden de sufijo.
+     */
+    @Override
+    @Transactional
+    public List<String> asignarCorreos(String correoBase, String dominio, int cantidad) {
+        String prefijo = correoBase + "@" + dominio;
+
+        if (correoSecuenciaRepository.incrementar(prefijo, cantidad) == 0) {
+            inicializarSecuencia(correoBase, dominio);
+            correoSecuenciaRepository.incrementar(prefijo, cantidad);
+        }
+        int ultimo = correoSecuenciaRepository.obtenerUltimo(prefijo);
+
+        List<String> correos = new ArrayList<>(cantidad);
+        for (int sufijo = ultimo - cantidad + 1; sufijo <= ultimo; sufijo++) {
+            colisiones.record(sufijo);
+            if (sufijo > 0) {
+                correosConColision.increment();
+            }
+            correos.add(sufijo == 0 ? prefijo : correoBase + "." + sufijo + "@" + dominio);
+        }
+        return correos;
+    }
+
+    /**
+     * Crea el contador de un prefijo que aún no tiene uno, partiendo del mayor
+     * sufijo ya registrado en la tabla de empleados. Se ejecuta una sola vez por
+     * prefijo, dentro de la transacción actual: la inserción no hace nada si otra
+     * transacción creó el contador primero, así que no hace falta una segunda
+     * conexión del pool para aislar el conflicto de clave.
+     *
+     * @param correoBase la parte local del correo, {@code nombre.apellido}.
+     * @param dominio    el dominio del país del empleado.
+     */
+    private void inicializarSecuencia(String correoBase, String dominio) {
+        correoSecuenciaRepository.insertarSiNoExiste(correoBase + "@" + dominio,
+                obtenerUltimoSufijo(correoBase, dominio));
+    }
+
+    /**
+     * Obtiene el mayor sufijo usado por los correos existentes del prefijo.
+     *
+     * @param correoBase la parte local del correo, {@code nombre.apellido}.
+     * @param dominio    el dominio del país del empleado.
+     * @return el mayor sufijo encontrado, 0 si solo existe el correo sin sufijo o
+     *         -1 si el prefijo no se ha usado.
+     */
+    private int obtenerUltimoSufijo(String correoBase, String dominio) {
+        String correo = correoBase + "@" + dominio;
+        List<String> correos = empleadoRepository.buscarCorreosConPrefijo(correo, correoBase + ".%@" + dominio);
+
+        int ultimo = -1;
+        for (String existente : correos) {
+            if (existente.equals(correo)) {
+                ultimo = Math.max(ultimo, 0);
+                continue;
+            }
+            String sufijo = existente.substring(correoBase.length() + 1, existente.length() - dominio.length() - 1);
+            try {
+                ultimo = Math.max(ultimo, Integer.parseInt(sufijo));
+            } catch (NumberFormatException e) {
+                // Correo de otro prefijo que comparte el inicio, por ejemplo juan.perez.lopez@...
+            }
+        }
+        return ultimo;
+    }
+}
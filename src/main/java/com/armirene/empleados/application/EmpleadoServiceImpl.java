@@ -1,33 +1,83 @@
 package com.armirene.empleados.application;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import com.armirene.empleados.domain.AreaService;
+import com.armirene.empleados.domain.BusquedaEmpleadoService;
+import com.armirene.empleados.domain.CambioEmpleadoService;
+import com.armirene.empleados.domain.ConteoEmpleadoService;
+import com.armirene.empleados.domain.CorreoService;
 import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.domain.MiniaturaService;
+import com.armirene.empleados.domain.PaisService;
+import com.armirene.empleados.domain.PlantillaService;
+import com.armirene.empleados.domain.TipoIdentificacionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoParcialDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.dto.GrupoPlantillaDto;
+import com.armirene.empleados.infrastructure.dto.ImportacionResultadoDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaResultadoDto;
+import com.armirene.empleados.infrastructure.dto.PaginaDto;
 import com.armirene.empleados.infrastructure.entity.Empleado;
-import com.armirene.empleados.infrastructure.exception.EmpleadoException.OtrosNombresException;
-import com.armirene.empleados.infrastructure.exception.EmpleadoException.PrimerApellidoException;
-import com.armirene.empleados.infrastructure.exception.EmpleadoException.PrimerNombreException;
-import com.armirene.empleados.infrastructure.exception.EmpleadoException.SegundoApellidoException;
-import com.armirene.empleados.infrastructure.repository.AreaRepository;
 import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
-import com.armirene.empleados.infrastructure.repository.PaisRepository;
-import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException;
 import com.armirene.empleados.infrastructure.util.CorreoUtil;
+import com.armirene.empleados.infrastructure.util.CursorUtil;
+import com.armirene.empleados.infrastructure.util.EscritorEmpleados;
+import com.armirene.empleados.infrastructure.util.EtiquetaUtil;
 import com.armirene.empleados.infrastructure.util.FechaUtils;
+import com.armirene.empleados.infrastructure.util.LectorEmpleados;
+import com.armirene.empleados.infrastructure.util.ValidacionUtil;
 import com.armirene.empleados.infrastructure.util.enums.Dominio;
+import com.armirene.empleados.infrastructure.util.enums.OrdenCursor;
+import com.armirene.empleados.infrastructure.util.enums.TipoCambio;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Implementación del servicio de empleados.
@@ -36,19 +86,54 @@ import com.armirene.empleados.infrastructure.util.enums.Dominio;
  * búsqueda, creación, actualización y eliminación de empleados.
  */
 @Service
+@Timed(value = "empleados.servicio", histogram = true)
 public class EmpleadoServiceImpl implements EmpleadoService {
 
+    private static final int TAMANO_LOTE_IMPORTACION = 500;
+
+    private static final int TAMANO_LOTE_MASIVO = 1000;
+
     @Autowired
     private EmpleadoRepository empleadoRepository;
 
     @Autowired
-    private TipoIdentificacionRepository tipoIdentificacionRepository;
+    private TipoIdentificacionService tipoIdentificacionService;
+
+    @Autowired
+    private PaisService paisService;
+
+    @Autowired
+    private AreaService areaService;
+
+    @Autowired
+    private CorreoService correoService;
+
+    @Autowired
+    private FotoService fotoService;
+
+    @Autowired
+    private MiniaturaService miniaturaService;
+
+    @Autowired
+    private BusquedaEmpleadoService busquedaEmpleadoService;
+
+    @Autowired
+    private ConteoEmpleadoService conteoEmpleadoService;
 
     @Autowired
-    private PaisRepository paisRepository;
+    private PlantillaService plantillaService;
 
     @Autowired
-    private AreaRepository areaRepository;
+    private CambioEmpleadoService cambioEmpleadoService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * Busca un empleado por su ID.
@@ -64,20 +149,173 @@ public class EmpleadoServiceImpl implements EmpleadoService {
     }
 
     /**
-     * Obtiene una página de empleados según los filtros proporcionados.
+     * Obtiene una página del listado de empleados según los filtros
+     * proporcionados. Cada fila es un {@link EmpleadoResumenDto} construido en la
+     * misma consulta que une los catálogos, por lo que la cantidad de sentencias
+     * no depende del tamaño de la página.
      *
      * @param filter objeto {@link EmpleadoDto} que contiene los criterios de filtro
      *               para la búsqueda de empleados.
      * @param page   número de la página a obtener (iniciado en 0).
      * @param size   número de empleados por página.
      * @return un objeto {@link Page} que contiene una lista de empleados que
-     *         cumplen con los filtros especificados.
+     *         cumplen con los filtros especificados, ordenados por ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmpleadoResumenDto> findAll(EmpleadoDto filter, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        return empleadoRepository.buscarResumen(createSpecification(filter), pageable);
+    }
+
+    /**
+     * Obtiene una página del listado de empleados sin contar el total. Se pide una
+     * fila más que el tamaño de la página para saber si existe una página
+     * siguiente, así que cada página es una sola consulta.
+     *
+     * @param filter objeto {@link EmpleadoDto} que contiene los criterios de filtro
+     *               para la búsqueda de empleados.
+     * @param page   número de la página a obtener (iniciado en 0).
+     * @param size   número de empleados por página.
+     * @return una {@link PaginaDto} con las filas e indicación de si hay una
+     *         página siguiente, sin totales.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Empleado> findAll(EmpleadoDto filter, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return empleadoRepository.findAll(createSpecification(filter), pageable);
+    public PaginaDto<EmpleadoResumenDto> findAllSinConteo(EmpleadoDto filter, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        return PaginaDto.deSlice(empleadoRepository.buscarResumenSinConteo(createSpecification(filter), pageable));
+    }
+
+    /**
+     * Obtiene una página del listado de empleados con un total aproximado. Las
+     * filas se obtienen como en {@link #findAllSinConteo(EmpleadoDto, int, int)}
+     * y el total lo entrega {@link ConteoEmpleadoService}, que solo cuenta en la
+     * base de datos la primera vez que se consulta cada combinación de filtros.
+     *
+     * @param filter objeto {@link EmpleadoDto} que contiene los criterios de filtro
+     *               para la búsqueda de empleados.
+     * @param page   número de la página a obtener (iniciado en 0).
+     * @param size   número de empleados por página.
+     * @return una {@link PaginaDto} con las filas, la indicación de si hay una
+     *         página siguiente y el total aproximado.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDto<EmpleadoResumenDto> findAllConteoEstimado(EmpleadoDto filter, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        Specification<Empleado> specification = createSpecification(filter);
+        Slice<EmpleadoResumenDto> slice = empleadoRepository.buscarResumenSinConteo(specification, pageable);
+        return PaginaDto.deEstimado(slice, conteoEmpleadoService.contar(filter, specification));
+    }
+
+    /**
+     * Obtiene las filas del listado de empleados que siguen a un cursor. A
+     * diferencia de {@link #findAll(EmpleadoDto, int, int)} no usa desplazamiento
+     * ni cuenta el total: filtra por la posición de la última fila entregada y
+     * pide una fila adicional para saber si hay más resultados.
+     *
+     * @param filter objeto {@link EmpleadoDto} que contiene los criterios de filtro
+     *               para la búsqueda de empleados.
+     * @param after  cursor devuelto por la consulta anterior, o {@code null} para
+     *               empezar desde el principio.
+     * @param orden  orden del recorrido: {@code id}, {@code primerApellido} o
+     *               {@code fechaRegistro}; los empates se resuelven por ID.
+     * @param size   número de empleados por página.
+     * @return una {@link PaginaDto} con las filas y el cursor de la siguiente
+     *         página, que es {@code null} cuando no hay más resultados.
+     * @throws IllegalArgumentException si el orden, el cursor o el tamaño no son
+     *                                  válidos.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDto<EmpleadoResumenDto> findAllAfter(EmpleadoDto filter, String after, String orden, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("El tamaño de la página debe ser al menos 1.");
+        }
+        OrdenCursor ordenCursor = OrdenCursor.obtenerOrden(orden);
+        Specification<Empleado> specification = createSpecification(filter);
+        if (after != null && !after.isEmpty()) {
+            specification = specification.and(createCursorSpecification(ordenCursor, after));
+        }
+        Sort sort = ordenCursor == OrdenCursor.ID ? Sort.by("id") : Sort.by(ordenCursor.getValor(), "id");
+
+        List<EmpleadoResumenDto> filas = empleadoRepository.buscarResumen(specification, sort, size + 1);
+        String siguienteCursor = null;
+        if (filas.size() > size) {
+            filas = filas.subList(0, size);
+            siguienteCursor = crearCursor(ordenCursor, filas.get(size - 1));
+        }
+        return PaginaDto.deCursor(filas, size, siguienteCursor);
+    }
+
+    /**
+     * Busca empleados por texto libre en los nombres, apellidos, correo y número
+     * de identificación, tolerando prefijos, subcadenas y errores de digitación.
+     * El {@link BusquedaEmpleadoService} configurado encuentra los IDs más
+     * parecidos en su índice de trigramas y luego se cargan sus filas del listado
+     * en una sola consulta, aplicando los demás filtros. Como el motor no conoce
+     * esos filtros, si descartan parte de los candidatos se piden más, duplicando
+     * el límite, hasta completar la página o agotar los resultados del motor.
+     *
+     * @param filter objeto {@link EmpleadoDto} que contiene los criterios de filtro
+     *               adicionales.
+     * @param texto  el texto buscado.
+     * @param size   número máximo de empleados a devolver.
+     * @return una {@link PaginaDto} con los empleados encontrados, del más
+     *         parecido al menos parecido.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDto<EmpleadoResumenDto> buscar(EmpleadoDto filter, String texto, int size) {
+        Specification<Empleado> filtros = createSpecification(filter);
+        List<EmpleadoResumenDto> filas = new ArrayList<>(size);
+        Set<Long> revisados = new HashSet<>();
+        int limite = size;
+        while (true) {
+            List<Long> ids = busquedaEmpleadoService.buscar(texto, limite);
+            List<Long> candidatos = new ArrayList<>();
+            for (Long id : ids) {
+                if (revisados.add(id)) {
+                    candidatos.add(id);
+                }
+            }
+            for (List<Long> lote : dividirEnLotes(candidatos)) {
+                if (filas.size() < size) {
+                    agregarCoincidencias(filtros, lote, filas, size);
+                }
+            }
+            if (filas.size() >= size || ids.size() < limite || limite > Integer.MAX_VALUE / 2) {
+                return PaginaDto.deCursor(filas, size, null);
+            }
+            limite *= 2;
+        }
+    }
+
+    /**
+     * Agrega a las filas de la búsqueda los candidatos que cumplen los filtros,
+     * en el orden de parecido en que los entregó el motor de búsqueda.
+     *
+     * @param filtros    los filtros adicionales de la búsqueda.
+     * @param candidatos IDs aún no revisados, del más parecido al menos parecido.
+     * @param filas      las filas encontradas hasta ahora.
+     * @param size       número máximo de filas.
+     */
+    private void agregarCoincidencias(Specification<Empleado> filtros, List<Long> candidatos,
+            List<EmpleadoResumenDto> filas, int size) {
+        Specification<Empleado> specification = filtros
+                .and((root, query, criteriaBuilder) -> root.get("id").in(candidatos));
+
+        Map<Long, EmpleadoResumenDto> porId = new HashMap<>();
+        for (EmpleadoResumenDto fila : empleadoRepository.buscarResumen(specification, Sort.unsorted(),
+                candidatos.size())) {
+            porId.put(fila.getId(), fila);
+        }
+        for (Long id : candidatos) {
+            if (porId.containsKey(id) && filas.size() < size) {
+                filas.add(porId.get(id));
+            }
+        }
     }
 
     /**
@@ -85,42 +323,97 @@ public class EmpleadoServiceImpl implements EmpleadoService {
      *
      * @param empleadoDto objeto {@link EmpleadoDto} que contiene la información del
      *                    empleado a guardar.
-     * @param imagenBytes un array de bytes que representa la imagen del empleado.
+     * @param foto        la foto recibida como archivo, o {@code null} si no se
+     *                    envió o viene en Base64 en {@link EmpleadoDto#getFoto()}.
+     *                    Se guarda en el almacén por bloques, después de validar
+     *                    los datos del empleado.
      * @return el objeto {@link Empleado} que fue guardado.
-     * @throws IllegalArgumentException si los datos del empleado no son válidos.
+     * @throws IllegalArgumentException si los datos del empleado o la foto no son
+     *                                  válidos.
      */
     @Override
     @Transactional
-    public Empleado save(EmpleadoDto empleadoDto, byte[] imagenBytes) {
+    public Empleado save(EmpleadoDto empleadoDto, InputStream foto) {
+        Empleado empleado = crearEmpleado(empleadoDto);
+        if (foto != null) {
+            asociarFoto(empleado, fotoService.guardar(foto));
+        }
+        empleado.setCorreo(crearCorreo(empleado));
+        Empleado guardado = empleadoRepository.save(empleado);
+        plantillaService.registrar(GrupoPlantillaDto.de(guardado), 1);
+        cambioEmpleadoService.registrar(guardado, TipoCambio.CREADO);
+        conteoEmpleadoService.limpiarCache();
+        return guardado;
+    }
 
-        validarEmpleado(empleadoDto);
+    /**
+     * Importa empleados leídos de un archivo CSV o NDJSON.
+     * Las filas se leen una a una, se validan con las mismas reglas de
+     * {@link #save(EmpleadoDto, InputStream)} y se guardan en lotes de
+     * {@value #TAMANO_LOTE_IMPORTACION}, cada uno en su propia transacción, con
+     * los correos asignados por prefijo y las inserciones agrupadas en lotes JDBC.
+     * Si un lote falla por integridad de datos se reintenta fila por fila para
+     * reportar solo las filas en conflicto.
+     *
+     * @param lector el {@link LectorEmpleados} del archivo a importar.
+     * @return un {@link ImportacionResultadoDto} con la cantidad de filas
+     *         importadas, los errores por línea y el rendimiento en filas por
+     *         segundo.
+     * @throws IOException si ocurre un error leyendo el archivo.
+     */
+    @Override
+    public ImportacionResultadoDto importar(LectorEmpleados lector) throws IOException {
+        long inicio = System.nanoTime();
+        ImportacionResultadoDto resultado = new ImportacionResultadoDto();
+        List<LectorEmpleados.Linea> lote = new ArrayList<>(TAMANO_LOTE_IMPORTACION);
 
-        Empleado empleado = new Empleado();
-        empleado.setPrimerNombre(empleadoDto.getPrimerNombre());
-        empleado.setOtrosNombres(empleadoDto.getOtrosNombres());
-        empleado.setPrimerApellido(empleadoDto.getPrimerApellido());
-        empleado.setSegundoApellido(empleadoDto.getSegundoApellido());
-        empleado.setNumeroIdentificacion(empleadoDto.getNumeroIdentificacion());
-        empleado.setTipoIdentificacion(tipoIdentificacionRepository.findById(empleadoDto.getIdTipoIdentificacion())
-                .orElseThrow(() -> new IllegalArgumentException("Tipo de identificación no encontrado.")));
-        empleado.setPais(paisRepository.findById(empleadoDto.getIdPais())
-                .orElseThrow(() -> new IllegalArgumentException("País no encontrado.")));
-        empleado.setArea(areaRepository.findById(empleadoDto.getIdArea())
-                .orElseThrow(() -> new IllegalArgumentException("Área no encontrada.")));
-        Date fechaUnMesAntes = FechaUtils.obtenerFechaUnMesAntes(new Date());
-        if (empleadoDto.getFechaIngreso().after(new Date()) || empleadoDto.getFechaIngreso().before(fechaUnMesAntes)) {
-            throw new IllegalArgumentException("La fecha de ingreso debe estar entre hace un mes y la fecha actual.");
+        LectorEmpleados.Linea linea;
+        while ((linea = lector.siguiente()) != null) {
+            resultado.setLineasProcesadas(resultado.getLineasProcesadas() + 1);
+            if (linea.getError() != null) {
+                resultado.agregarError(linea.getNumero(), linea.getError());
+                continue;
+            }
+            lote.add(linea);
+            if (lote.size() == TAMANO_LOTE_IMPORTACION) {
+                importarLote(lote, resultado);
+                lote.clear();
+            }
         }
-        empleado.setFechaIngreso(empleadoDto.getFechaIngreso());
-        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
-        String correo = crearCorreo(empleado);
-        empleado.setCorreo(correo);
-        empleado.setEstado("ACTIVO");
-        imagenBytes = obtenerImagenBytes(empleadoDto.getFoto());
-        if (imagenBytes != null && imagenBytes.length > 0) {
-            guardarFotoEmpleado(empleado, imagenBytes);
+        if (!lote.isEmpty()) {
+            importarLote(lote, resultado);
+        }
+        if (resultado.getImportados() > 0) {
+            conteoEmpleadoService.limpiarCache();
+        }
+        resultado.calcularRendimiento(System.nanoTime() - inicio);
+        return resultado;
+    }
+
+    /**
+     * Exporta el listado de empleados que cumplen los filtros, ordenado por ID.
+     * Las filas se leen con un cursor de la base de datos y se escriben a medida
+     * que llegan, por lo que la memoria usada no depende de la cantidad de
+     * empleados. Las fotos no se incluyen, solo su URL.
+     *
+     * @param filter   objeto {@link EmpleadoDto} que contiene los criterios de
+     *                 filtro, los mismos del listado.
+     * @param escritor el {@link EscritorEmpleados} del archivo de salida.
+     * @return la cantidad de empleados exportados.
+     * @throws IOException si ocurre un error escribiendo el archivo.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportar(EmpleadoDto filter, EscritorEmpleados escritor) throws IOException {
+        long exportados = 0;
+        try (Stream<EmpleadoResumenDto> filas = empleadoRepository.recorrerResumen(createSpecification(filter),
+                Sort.by("id"))) {
+            for (EmpleadoResumenDto fila : (Iterable<EmpleadoResumenDto>) filas::iterator) {
+                escritor.escribir(fila);
+                exportados++;
+            }
         }
-        return empleadoRepository.save(empleado);
+        return exportados;
     }
 
     /**
@@ -134,35 +427,163 @@ public class EmpleadoServiceImpl implements EmpleadoService {
      * @throws Exception si ocurre un error durante el proceso de actualización.
      */
     @Override
+    @Transactional
     public Optional<Empleado> update(Long id, EmpleadoDto empleadoDto) throws Exception {
+        return update(id, empleadoDto, null);
+    }
+
+    /**
+     * Actualiza la información de un empleado existente si su etiqueta actual
+     * coincide con el encabezado {@code If-Match}. La comparación se hace dentro
+     * de la transacción de la edición, sobre el empleado que se va a modificar,
+     * y la versión impide además que otra edición confirmada entretanto se
+     * sobrescriba.
+     *
+     * @param id          el ID del empleado a actualizar.
+     * @param empleadoDto objeto {@link EmpleadoDto} que contiene la nueva
+     *                    información del empleado.
+     * @param siCoincide  el valor del encabezado {@code If-Match}, o {@code null}
+     *                    si no se envió.
+     * @return un {@link Optional} que contiene el empleado actualizado, o vacío si
+     *         no se encontró el empleado.
+     * @throws EmpleadoException.PrecondicionException si la etiqueta no coincide.
+     * @throws Exception si ocurre un error durante el proceso de actualización.
+     */
+    @Override
+    @Transactional
+    public Optional<Empleado> update(Long id, EmpleadoDto empleadoDto, String siCoincide) throws Exception {
 
-        validarEmpleado(empleadoDto);
+        ValidacionUtil.validarEmpleado(empleadoDto);
 
         Optional<Empleado> empleadoExistente = empleadoRepository.findById(id);
-        String correoAnterior = empleadoExistente.get().getCorreo();
 
         if (empleadoExistente.isPresent()) {
             Empleado empleado = empleadoExistente.get();
+            if (!EtiquetaUtil.coincide(siCoincide, empleado)) {
+                throw new EmpleadoException.PrecondicionException(
+                        "El empleado fue modificado por otro usuario. Consulte la versión actual e intente de nuevo.");
+            }
+            String correoAnterior = empleado.getCorreo();
+            GrupoPlantillaDto grupoAnterior = GrupoPlantillaDto.de(empleado);
 
             empleado.setPrimerNombre(empleadoDto.getPrimerNombre());
             empleado.setOtrosNombres(empleadoDto.getOtrosNombres());
             empleado.setPrimerApellido(empleadoDto.getPrimerApellido());
             empleado.setSegundoApellido(empleadoDto.getSegundoApellido());
             empleado.setNumeroIdentificacion(empleadoDto.getNumeroIdentificacion());
-            empleado.getTipoIdentificacion().setId(empleadoDto.getIdTipoIdentificacion());
-            empleado.getPais().setId(empleadoDto.getIdPais());
-            String correo = crearCorreo(empleado);
+            empleado.setTipoIdentificacion(tipoIdentificacionService.findById(empleadoDto.getIdTipoIdentificacion())
+                    .orElseThrow(() -> new IllegalArgumentException("Tipo de identificación no encontrado.")));
+            empleado.setPais(paisService.findById(empleadoDto.getIdPais())
+                    .orElseThrow(() -> new IllegalArgumentException("País no encontrado.")));
             if (CorreoUtil.nombresHanCambiado(correoAnterior, empleado.getPrimerNombre(),
                     empleado.getPrimerApellido())) {
-                empleado.setCorreo(correo);
+                empleado.setCorreo(crearCorreo(empleado));
             }
             empleado.setFechaEdicion(new Timestamp(System.currentTimeMillis()));
 
-            return Optional.of(empleadoRepository.save(empleado));
+            Empleado actualizado = empleadoRepository.save(empleado);
+            // Se escribe ya para registrar el cambio con la nueva versión.
+            empleadoRepository.flush();
+            plantillaService.mover(grupoAnterior, GrupoPlantillaDto.de(actualizado));
+            cambioEmpleadoService.registrar(actualizado, TipoCambio.ACTUALIZADO);
+            conteoEmpleadoService.limpiarCache();
+            return Optional.of(actualizado);
         }
         return Optional.empty();
     }
 
+    /**
+     * Aplica cambios parciales a un empleado dentro de una transacción. Solo se
+     * asignan los campos recibidos que difieren del valor actual, de modo que la
+     * sentencia {@code UPDATE} (dinámica) incluye únicamente las columnas
+     * modificadas, y el correo solo se regenera si cambia el primer nombre o el
+     * primer apellido. Si no hay cambios no se ejecuta ninguna escritura.
+     *
+     * @param id      el ID del empleado.
+     * @param cambios los campos a modificar y la versión que leyó el cliente.
+     * @return el empleado con su nueva versión, o vacío si no existe.
+     * @throws ObjectOptimisticLockingFailureException si la versión recibida no
+     *                                                 es la actual o el empleado
+     *                                                 se modificó durante la
+     *                                                 operación.
+     */
+    @Override
+    @Transactional
+    public Optional<Empleado> actualizarParcial(Long id, EmpleadoParcialDto cambios) {
+        if (cambios.getVersion() == null) {
+            throw new IllegalArgumentException("La versión del empleado es obligatoria.");
+        }
+        ValidacionUtil.validarCambiosEmpleado(cambios);
+
+        Optional<Empleado> empleadoExistente = empleadoRepository.findById(id);
+        if (empleadoExistente.isEmpty()) {
+            return Optional.empty();
+        }
+        Empleado empleado = empleadoExistente.get();
+        if (!cambios.getVersion().equals(empleado.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Empleado.class, id);
+        }
+        GrupoPlantillaDto grupoAnterior = GrupoPlantillaDto.de(empleado);
+
+        boolean cambioNombre = asignar(cambios.getPrimerNombre(), empleado.getPrimerNombre(),
+                empleado::setPrimerNombre)
+                | asignar(cambios.getPrimerApellido(), empleado.getPrimerApellido(), empleado::setPrimerApellido);
+        boolean cambio = cambioNombre
+                | asignar(cambios.getSegundoApellido(), empleado.getSegundoApellido(), empleado::setSegundoApellido)
+                | asignar(cambios.getNumeroIdentificacion(), empleado.getNumeroIdentificacion(),
+                        empleado::setNumeroIdentificacion)
+                | asignar(cambios.getEstado(), empleado.getEstado(), empleado::setEstado);
+
+        if (cambios.getOtrosNombres() != null) {
+            String otrosNombres = cambios.getOtrosNombres().isEmpty() ? null : cambios.getOtrosNombres();
+            if (!Objects.equals(otrosNombres, empleado.getOtrosNombres())) {
+                empleado.setOtrosNombres(otrosNombres);
+                cambio = true;
+            }
+        }
+
+        if (cambios.getIdTipoIdentificacion() != null && (empleado.getTipoIdentificacion() == null
+                || !cambios.getIdTipoIdentificacion().equals(empleado.getTipoIdentificacion().getId()))) {
+            empleado.setTipoIdentificacion(tipoIdentificacionService.findById(cambios.getIdTipoIdentificacion())
+                    .orElseThrow(() -> new IllegalArgumentException("Tipo de identificación no encontrado.")));
+            cambio = true;
+        }
+        if (cambios.getIdPais() != null
+                && (empleado.getPais() == null || !cambios.getIdPais().equals(empleado.getPais().getId()))) {
+            empleado.setPais(paisService.findById(cambios.getIdPais())
+                    .orElseThrow(() -> new IllegalArgumentException("País no encontrado.")));
+            cambio = true;
+        }
+        if (cambios.getIdArea() != null
+                && (empleado.getArea() == null || !cambios.getIdArea().equals(empleado.getArea().getId()))) {
+            empleado.setArea(areaService.findById(cambios.getIdArea())
+                    .orElseThrow(() -> new IllegalArgumentException("Área no encontrada.")));
+            cambio = true;
+        }
+        if (!cambio) {
+            return Optional.of(empleado);
+        }
+
+        if (cambioNombre) {
+            empleado.setCorreo(crearCorreo(empleado));
+        }
+        empleado.setFechaEdicion(new Timestamp(System.currentTimeMillis()));
+        // Se escribe ya para devolver la nueva versión y detectar el conflicto aquí.
+        empleadoRepository.flush();
+        plantillaService.mover(grupoAnterior, GrupoPlantillaDto.de(empleado));
+        cambioEmpleadoService.registrar(empleado, TipoCambio.ACTUALIZADO);
+        conteoEmpleadoService.limpiarCache();
+        return Optional.of(empleado);
+    }
+
+    private boolean asignar(String valor, String actual, Consumer<String> setter) {
+        if (valor == null || valor.equals(actual)) {
+            return false;
+        }
+        setter.accept(valor);
+        return true;
+    }
+
     /**
      * Elimina un empleado por su ID.
      *
@@ -171,63 +592,301 @@ public class EmpleadoServiceImpl implements EmpleadoService {
     @Override
     @Transactional
     public void deleteById(Long id) {
+        // El empleado queda en el contexto de persistencia y deleteById no lo vuelve a consultar.
+        empleadoRepository.findById(id).ifPresent(empleado -> {
+            plantillaService.registrar(GrupoPlantillaDto.de(empleado), -1);
+            cambioEmpleadoService.registrar(empleado, TipoCambio.ELIMINADO);
+        });
         empleadoRepository.deleteById(id);
+        conteoEmpleadoService.limpiarCache();
     }
 
     /**
-     * Crea un correo electrónico basado en el nombre y apellido del empleado y su
-     * país.
+     * Asigna una foto ya guardada en el almacén a un empleado existente.
      *
-     * @param empleado el objeto {@link Empleado} del cual se generará el correo.
-     * @return el correo electrónico generado.
+     * @param id   el ID del empleado.
+     * @param hash el hash de la foto en el almacén.
+     * @return el empleado actualizado, o vacío si no existe.
      */
-    private String crearCorreo(Empleado empleado) {
-        String dominio = Dominio.obtenerDominio(empleado.getPais().getNombre().toUpperCase());
-        String correoBase = generarCorreoBase(empleado);
-        String correo = correoBase + "@" + dominio;
-        int contador = 1;
+    @Override
+    @Transactional
+    public Optional<Empleado> asignarFoto(Long id, String hash) {
+        Optional<Empleado> empleado = empleadoRepository.findById(id);
+        empleado.ifPresent(existente -> {
+            if (!hash.equals(existente.getFotoHash())) {
+                asociarFoto(existente, hash);
+                existente.setFechaEdicion(new Timestamp(System.currentTimeMillis()));
+                empleadoRepository.flush();
+                cambioEmpleadoService.registrar(existente, TipoCambio.ACTUALIZADO);
+            }
+        });
+        return empleado;
+    }
+
+    /**
+     * Cambia el estado de varios empleados y registra la fecha de edición sin
+     * cargarlos. Con un filtro se ejecuta una sola sentencia {@code UPDATE}; con
+     * una lista de IDs, una por cada lote de {@value #TAMANO_LOTE_MASIVO}. Antes
+     * de cada una, un {@code INSERT ... SELECT} registra el cambio de los mismos
+     * empleados. Como no se conocen los estados anteriores, el conteo de
+     * plantilla se reconstruye en segundo plano.
+     *
+     * @param operacion los IDs o el filtro de los empleados y el nuevo estado.
+     * @return la cantidad de empleados modificados y las fechas de la operación.
+     * @throws IllegalArgumentException si falta el estado o la selección de
+     *                                  empleados no es válida.
+     */
+    @Override
+    @Transactional
+    public OperacionMasivaResultadoDto cambiarEstado(OperacionMasivaDto operacion) {
+        validarOperacionMasiva(operacion);
+        if (operacion.getEstado() == null || operacion.getEstado().isBlank()) {
+            throw new IllegalArgumentException("El estado es obligatorio.");
+        }
+        OperacionMasivaResultadoDto resultado = new OperacionMasivaResultadoDto();
+        Timestamp fechaEdicion = new Timestamp(System.currentTimeMillis());
+        resultado.setFechaInicio(fechaEdicion);
+
+        if (operacion.getIds() != null) {
+            for (List<Long> lote : dividirEnLotes(operacion.getIds())) {
+                cambioEmpleadoService.registrarActualizacion(porIds(lote));
+                resultado.setAfectados(resultado.getAfectados()
+                        + empleadoRepository.actualizarEstado(porIds(lote), operacion.getEstado(), fechaEdicion));
+                resultado.setSentencias(resultado.getSentencias() + 1);
+            }
+        } else {
+            Specification<Empleado> specification = createSpecification(operacion.getFiltro());
+            cambioEmpleadoService.registrarActualizacion(specification);
+            resultado.setAfectados(empleadoRepository.actualizarEstado(specification, operacion.getEstado(),
+                    fechaEdicion));
+            resultado.setSentencias(1);
+        }
+
+        conteoEmpleadoService.limpiarCache();
+        plantillaService.marcarPendiente();
+        resultado.setFechaFin(new Timestamp(System.currentTimeMillis()));
+        return resultado;
+    }
+
+    /**
+     * Elimina varios empleados sin cargarlos, con una sentencia {@code DELETE} por
+     * cada lote de {@value #TAMANO_LOTE_MASIVO} IDs. Con un filtro primero se
+     * obtienen solo los IDs, que se necesitan para retirar a los empleados del
+     * índice de búsqueda, ya que los borrados masivos no pasan por
+     * {@link com.armirene.empleados.infrastructure.entity.EmpleadoBusquedaListener}.
+     * El cambio de cada lote se registra antes de eliminarlo y el conteo de
+     * plantilla se reconstruye en segundo plano.
+     *
+     * @param operacion los IDs o el filtro de los empleados a eliminar.
+     * @return la cantidad de empleados eliminados y las fechas de la operación.
+     * @throws IllegalArgumentException si la selección de empleados no es válida.
+     */
+    @Override
+    @Transactional
+    public OperacionMasivaResultadoDto eliminar(OperacionMasivaDto operacion) {
+        validarOperacionMasiva(operacion);
+        OperacionMasivaResultadoDto resultado = new OperacionMasivaResultadoDto();
+        resultado.setFechaInicio(new Timestamp(System.currentTimeMillis()));
+
+        List<Long> ids = operacion.getIds() != null
+                ? operacion.getIds()
+                : empleadoRepository.buscarIds(createSpecification(operacion.getFiltro()));
+        for (List<Long> lote : dividirEnLotes(ids)) {
+            cambioEmpleadoService.registrar(porIds(lote), TipoCambio.ELIMINADO);
+            resultado.setAfectados(resultado.getAfectados() + empleadoRepository.eliminar(porIds(lote)));
+            resultado.setSentencias(resultado.getSentencias() + 1);
+        }
+
+        conteoEmpleadoService.limpiarCache();
+        plantillaService.marcarPendiente();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(busquedaEmpleadoService::eliminar);
+            }
+        });
+        resultado.setFechaFin(new Timestamp(System.currentTimeMillis()));
+        return resultado;
+    }
+
+    /**
+     * Exige que una operación masiva indique sus empleados con una lista de IDs o
+     * con un filtro que tenga al menos un criterio, para que un cuerpo vacío no
+     * afecte a todos los empleados.
+     */
+    private void validarOperacionMasiva(OperacionMasivaDto operacion) {
+        boolean conIds = operacion.getIds() != null;
+        boolean conFiltro = operacion.getFiltro() != null;
+        if (conIds == conFiltro) {
+            throw new IllegalArgumentException("Debe indicar una lista de IDs o un filtro, pero no ambos.");
+        }
+        if (conIds && (operacion.getIds().isEmpty() || operacion.getIds().stream().anyMatch(id -> id == null))) {
+            throw new IllegalArgumentException("La lista de IDs no puede estar vacía ni contener valores nulos.");
+        }
+        if (conFiltro && !tieneCriterios(operacion.getFiltro())) {
+            throw new IllegalArgumentException("El filtro debe tener al menos un criterio.");
+        }
+    }
+
+    private boolean tieneCriterios(EmpleadoDto filter) {
+        return StringUtils.hasText(filter.getPrimerNombre()) || StringUtils.hasText(filter.getOtrosNombres())
+                || StringUtils.hasText(filter.getPrimerApellido())
+                || StringUtils.hasText(filter.getSegundoApellido())
+                || StringUtils.hasText(filter.getNumeroIdentificacion())
+                || StringUtils.hasText(filter.getCorreo()) || StringUtils.hasText(filter.getEstado())
+                || filter.getIdTipoIdentificacion() != null || filter.getIdPais() != null
+                || filter.getIdArea() != null;
+    }
 
-        while (empleadoRepository.existsByCorreo(correo)) {
-            correo = correoBase + "." + contador + "@" + dominio;
-            contador++;
+    private List<List<Long>> dividirEnLotes(List<Long> ids) {
+        List<List<Long>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANO_LOTE_MASIVO) {
+            lotes.add(ids.subList(inicio, Math.min(inicio + TAMANO_LOTE_MASIVO, ids.size())));
         }
-        return correo;
+        return lotes;
+    }
+
+    private Specification<Empleado> porIds(List<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
     }
 
     /**
-     * Genera la parte base del correo electrónico utilizando el primer nombre y
-     * apellido del empleado.
+     * Construye un empleado nuevo a partir de los datos recibidos, sin asignarle
+     * correo ni guardarlo. Valida los nombres, resuelve los catálogos, verifica la
+     * fecha de ingreso y guarda la foto en el almacén de fotos.
      *
-     * @param empleado el objeto {@link Empleado} del cual se generará la base del
-     *                 correo.
-     * @return la parte base del correo electrónico.
+     * @param empleadoDto objeto {@link EmpleadoDto} con los datos del empleado.
+     * @return el objeto {@link Empleado} construido.
+     * @throws IllegalArgumentException si los datos del empleado no son válidos.
      */
-    private String generarCorreoBase(Empleado empleado) {
-        String primerNombre = empleado.getPrimerNombre().split(" ")[0].toLowerCase();
-        String primerApellido = formatearApellido(empleado.getPrimerApellido());
-        return primerNombre + "." + primerApellido;
+    private Empleado crearEmpleado(EmpleadoDto empleadoDto) {
+
+        ValidacionUtil.validarEmpleado(empleadoDto);
+
+        Empleado empleado = new Empleado();
+        empleado.setPrimerNombre(empleadoDto.getPrimerNombre());
+        empleado.setOtrosNombres(empleadoDto.getOtrosNombres());
+        empleado.setPrimerApellido(empleadoDto.getPrimerApellido());
+        empleado.setSegundoApellido(empleadoDto.getSegundoApellido());
+        empleado.setNumeroIdentificacion(empleadoDto.getNumeroIdentificacion());
+        empleado.setTipoIdentificacion(tipoIdentificacionService.findById(empleadoDto.getIdTipoIdentificacion())
+                .orElseThrow(() -> new IllegalArgumentException("Tipo de identificación no encontrado.")));
+        empleado.setPais(paisService.findById(empleadoDto.getIdPais())
+                .orElseThrow(() -> new IllegalArgumentException("País no encontrado.")));
+        empleado.setArea(areaService.findById(empleadoDto.getIdArea())
+                .orElseThrow(() -> new IllegalArgumentException("Área no encontrada.")));
+        if (empleadoDto.getFechaIngreso() == null) {
+            throw new IllegalArgumentException("La fecha de ingreso es requerida.");
+        }
+        Date fechaUnMesAntes = FechaUtils.obtenerFechaUnMesAntes(new Date());
+        if (empleadoDto.getFechaIngreso().after(new Date()) || empleadoDto.getFechaIngreso().before(fechaUnMesAntes)) {
+            throw new IllegalArgumentException("La fecha de ingreso debe estar entre hace un mes y la fecha actual.");
+        }
+        empleado.setFechaIngreso(empleadoDto.getFechaIngreso());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setEstado("ACTIVO");
+        byte[] imagenBytes = obtenerImagenBytes(empleadoDto.getFoto());
+        if (imagenBytes != null && imagenBytes.length > 0) {
+            guardarFotoEmpleado(empleado, imagenBytes);
+        }
+        return empleado;
     }
 
     /**
-     * Formatea el apellido eliminando espacios y guiones, y convirtiéndolo a
-     * minúsculas.
+     * Valida y guarda un lote de filas importadas. Las filas inválidas se reportan
+     * y el resto se guarda en una sola transacción; si esta falla por integridad
+     * de datos, las filas se guardan una a una para aislar las que fallan.
      *
-     * @param apellido el apellido a formatear.
-     * @return el apellido formateado.
+     * @param lote      las filas leídas del archivo.
+     * @param resultado el resultado de la importación a actualizar.
      */
-    private String formatearApellido(String apellido) {
-        return apellido.toLowerCase().replaceAll("\\s|-", "");
+    private void importarLote(List<LectorEmpleados.Linea> lote, ImportacionResultadoDto resultado) {
+        List<Empleado> empleados = new ArrayList<>(lote.size());
+        List<Long> lineas = new ArrayList<>(lote.size());
+        for (LectorEmpleados.Linea linea : lote) {
+            Set<ConstraintViolation<EmpleadoDto>> violaciones = validator.validate(linea.getEmpleado());
+            if (!violaciones.isEmpty()) {
+                ConstraintViolation<EmpleadoDto> violacion = violaciones.iterator().next();
+                resultado.agregarError(linea.getNumero(), violacion.getPropertyPath() + ": " + violacion.getMessage());
+                continue;
+            }
+            try {
+                empleados.add(crearEmpleado(linea.getEmpleado()));
+                lineas.add(linea.getNumero());
+            } catch (RuntimeException e) {
+                resultado.agregarError(linea.getNumero(), e.getMessage());
+            }
+        }
+        if (empleados.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> guardarLote(empleados));
+            resultado.setImportados(resultado.getImportados() + empleados.size());
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < empleados.size(); i++) {
+                Empleado empleado = empleados.get(i);
+                // El intento fallido ya les asignó ID y versión; sin limpiarlos
+                // saveAll los trataría como existentes y haría merge de una copia.
+                empleado.setId(null);
+                empleado.setVersion(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> guardarLote(List.of(empleado)));
+                    resultado.setImportados(resultado.getImportados() + 1);
+                } catch (DataIntegrityViolationException conflicto) {
+                    resultado.agregarError(lineas.get(i),
+                            "Error de integridad de datos. Verifique la información ingresada.");
+                }
+            }
+        }
     }
 
     /**
-     * Convierte una imagen de bytes a una cadena en formato Base64.
+     * Asigna los correos de un lote, pidiendo un rango de sufijos por cada prefijo
+     * distinto, y guarda los empleados. Al terminar vacía el contexto de
+     * persistencia para que la memoria usada no crezca con el tamaño del archivo.
      *
-     * @param imagenBytes el array de bytes que representa la imagen.
-     * @return la representación en Base64 de la imagen.
+     * @param empleados los empleados a guardar.
+     */
+    private void guardarLote(List<Empleado> empleados) {
+        Map<String, List<Empleado>> porPrefijo = new LinkedHashMap<>();
+        for (Empleado empleado : empleados) {
+            String dominio = Dominio.obtenerDominio(empleado.getPais().getNombre().toUpperCase());
+            String correoBase = CorreoUtil.generarCorreoBase(empleado.getPrimerNombre(), empleado.getPrimerApellido());
+            porPrefijo.computeIfAbsent(correoBase + "@" + dominio, prefijo -> new ArrayList<>()).add(empleado);
+        }
+        for (Map.Entry<String, List<Empleado>> grupo : porPrefijo.entrySet()) {
+            String[] partes = grupo.getKey().split("@");
+            List<String> correos = correoService.asignarCorreos(partes[0], partes[1], grupo.getValue().size());
+            for (int i = 0; i < correos.size(); i++) {
+                grupo.getValue().get(i).setCorreo(correos.get(i));
+            }
+        }
+        List<Empleado> guardados = empleadoRepository.saveAll(empleados);
+        Map<GrupoPlantillaDto, Long> grupos = new HashMap<>();
+        for (Empleado empleado : guardados) {
+            grupos.merge(GrupoPlantillaDto.de(empleado), 1L, Long::sum);
+        }
+        plantillaService.registrar(grupos);
+        cambioEmpleadoService.registrar(porIds(guardados.stream().map(Empleado::getId).toList()),
+                TipoCambio.CREADO);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Crea un correo electrónico basado en el nombre y apellido del empleado y su
+     * país. El sufijo numérico lo asigna {@link CorreoService} con un contador por
+     * prefijo, sin recorrer los correos existentes.
+     *
+     * @param empleado el objeto {@link Empleado} del cual se generará el correo.
+     * @return el correo electrónico generado.
      */
-    public String convertirImagenABase64(byte[] imagenBytes) {
-        String base64Image = Base64.getEncoder().encodeToString(imagenBytes);
-        return "data:image/png;base64," + base64Image;
+    private String crearCorreo(Empleado empleado) {
+        String dominio = Dominio.obtenerDominio(empleado.getPais().getNombre().toUpperCase());
+        return correoService.asignarCorreo(
+                CorreoUtil.generarCorreoBase(empleado.getPrimerNombre(), empleado.getPrimerApellido()), dominio);
     }
 
     /**
@@ -245,15 +904,30 @@ public class EmpleadoServiceImpl implements EmpleadoService {
     }
 
     /**
-     * Guarda la foto del empleado en su objeto utilizando la representación en
-     * Base64.
+     * Guarda la foto del empleado en el almacén de fotos y asocia su hash al
+     * empleado. La fila del empleado no guarda los bytes de la imagen. Las
+     * miniaturas se encolan al confirmarse la transacción, sin esperar a que se
+     * generen.
      *
      * @param empleado    el objeto {@link Empleado} al cual se le asignará la foto.
      * @param imagenBytes el array de bytes que representa la imagen.
      */
     public void guardarFotoEmpleado(Empleado empleado, byte[] imagenBytes) {
-        String fotoBase64 = convertirImagenABase64(imagenBytes);
-        empleado.setFoto(fotoBase64);
+        asociarFoto(empleado, fotoService.guardar(imagenBytes));
+    }
+
+    private void asociarFoto(Empleado empleado, String hash) {
+        empleado.setFotoHash(hash);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            miniaturaService.generar(hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                miniaturaService.generar(hash);
+            }
+        });
     }
 
     /**
@@ -267,7 +941,7 @@ public class EmpleadoServiceImpl implements EmpleadoService {
      * @return un objeto {@link Specification} que define los filtros aplicables a
      *         la consulta.
      */
-    private Specification<Empleado> createSpecification(EmpleadoDto filter) {
+    public Specification<Empleado> createSpecification(EmpleadoDto filter) {
         return (root, query, criteriaBuilder) -> {
             var predicates = criteriaBuilder.conjunction();
 
@@ -289,7 +963,7 @@ public class EmpleadoServiceImpl implements EmpleadoService {
             }
             if (filter.getIdTipoIdentificacion() != null) {
                 predicates = criteriaBuilder.and(predicates, criteriaBuilder
-                        .equal(root.join("tipoIdentificacion").get("id"), filter.getIdTipoIdentificacion()));
+                        .equal(root.get("tipoIdentificacion").get("id"), filter.getIdTipoIdentificacion()));
             }
             if (filter.getNumeroIdentificacion() != null && !filter.getNumeroIdentificacion().isEmpty()) {
                 predicates = criteriaBuilder.and(predicates,
@@ -297,7 +971,11 @@ public class EmpleadoServiceImpl implements EmpleadoService {
             }
             if (filter.getIdPais() != null) {
                 predicates = criteriaBuilder.and(predicates,
-                        criteriaBuilder.equal(root.join("pais").get("id"), filter.getIdPais()));
+                        criteriaBuilder.equal(root.get("pais").get("id"), filter.getIdPais()));
+            }
+            if (filter.getIdArea() != null) {
+                predicates = criteriaBuilder.and(predicates,
+                        criteriaBuilder.equal(root.get("area").get("id"), filter.getIdArea()));
             }
             if (filter.getCorreo() != null && !filter.getCorreo().isEmpty()) {
                 predicates = criteriaBuilder.and(predicates,
@@ -313,55 +991,55 @@ public class EmpleadoServiceImpl implements EmpleadoService {
     }
 
     /**
-     * Valida los datos del empleado antes de su creación o actualización.
-     * Verifica los valores de los atributos del objeto {@link EmpleadoDto} y arroja
-     * excepciones personalizadas en caso de que alguno de los valores no sea
-     * válido.
+     * Crea el filtro que deja solo las filas posteriores a la posición del
+     * cursor, comparando primero la columna de orden y luego el ID.
      *
-     * @param empleadoDto el objeto {@link EmpleadoDto} que contiene los datos a
-     *                    validar.
-     * @throws PrimerNombreException    si el primer nombre es nulo, vacío o no
-     *                                  cumple con el formato.
-     * @throws OtrosNombresException    si los otros nombres no cumplen con el
-     *                                  formato o superan el límite de caracteres.
-     * @throws PrimerApellidoException  si el primer apellido es nulo, vacío o no
-     *                                  cumple con el formato.
-     * @throws SegundoApellidoException si el segundo apellido es nulo, vacío o no
-     *                                  cumple con el formato.
+     * @param orden el orden del recorrido.
+     * @param after el cursor recibido.
+     * @return un objeto {@link Specification} con la condición de posición.
+     * @throws IllegalArgumentException si el cursor no es válido o fue generado
+     *                                  con otro orden.
      */
-    private void validarEmpleado(EmpleadoDto empleadoDto) {
-
-        if (empleadoDto.getPrimerNombre() == null || empleadoDto.getPrimerNombre().isEmpty()) {
-            throw new PrimerNombreException("El primer nombre es requerido.");
+    private Specification<Empleado> createCursorSpecification(OrdenCursor orden, String after) {
+        String[] cursor = CursorUtil.decodificar(after);
+        if (!orden.getValor().equals(cursor[0])) {
+            throw new IllegalArgumentException("El cursor no corresponde al orden solicitado.");
         }
-        if (!empleadoDto.getPrimerNombre().matches("^[A-Z]{1,20}$")) {
-            throw new PrimerNombreException(
-                    "El primer nombre solo permite caracteres de la A a la Z, mayúscula, sin acentos ni Ñ y su longitud máxima es de 20 letras.");
+        // Los valores se validan aquí y no dentro de la especificación, que se
+        // evalúa al ejecutar la consulta, para que un cursor alterado sea un 400.
+        Long ultimoId;
+        Timestamp fechaRegistro;
+        try {
+            ultimoId = Long.valueOf(cursor[1]);
+            fechaRegistro = orden == OrdenCursor.FECHA_REGISTRO ? Timestamp.from(Instant.parse(cursor[2])) : null;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("El cursor no es válido.");
         }
+        String valor = cursor[2];
 
-        if (empleadoDto.getOtrosNombres() != null && empleadoDto.getOtrosNombres().length() > 50) {
-            throw new OtrosNombresException("Los otros nombres deben tener una longitud máxima de 50 letras.");
-        }
-        if (empleadoDto.getOtrosNombres() != null && !empleadoDto.getOtrosNombres().matches("^[A-Z ]{0,50}$")) {
-            throw new OtrosNombresException(
-                    "Los otros nombres solo permiten caracteres de la A a la Z, mayúscula, sin acentos ni Ñ, y el carácter espacio entre nombres.");
-        }
+        return (root, query, criteriaBuilder) -> switch (orden) {
+            case ID -> criteriaBuilder.greaterThan(root.get("id"), ultimoId);
+            case PRIMER_APELLIDO -> despuesDe(criteriaBuilder, root, root.<String>get("primerApellido"), valor,
+                    ultimoId);
+            case FECHA_REGISTRO -> despuesDe(criteriaBuilder, root, root.<Timestamp>get("fechaRegistro"),
+                    fechaRegistro, ultimoId);
+        };
+    }
 
-        if (empleadoDto.getPrimerApellido() == null || empleadoDto.getPrimerApellido().isEmpty()) {
-            throw new PrimerApellidoException("El primer apellido es requerido.");
-        }
-        if (!empleadoDto.getPrimerApellido().matches("^[A-Z]{1,20}$")) {
-            throw new PrimerApellidoException(
-                    "El primer apellido solo permite caracteres de la A a la Z, mayúscula, sin acentos ni Ñ y su longitud máxima es de 20 letras.");
-        }
+    private <Y extends Comparable<? super Y>> Predicate despuesDe(CriteriaBuilder criteriaBuilder,
+            Root<Empleado> root, Path<Y> columna, Y valor, Long ultimoId) {
+        return criteriaBuilder.or(criteriaBuilder.greaterThan(columna, valor),
+                criteriaBuilder.and(criteriaBuilder.equal(columna, valor),
+                        criteriaBuilder.greaterThan(root.get("id"), ultimoId)));
+    }
 
-        if (empleadoDto.getSegundoApellido() == null || empleadoDto.getSegundoApellido().isEmpty()) {
-            throw new SegundoApellidoException("El segundo apellido es requerido.");
-        }
-        if (!empleadoDto.getSegundoApellido().matches("^[A-Z]{1,20}$")) {
-            throw new SegundoApellidoException(
-                    "El segundo apellido solo permite caracteres de la A a la Z, mayúscula, sin acentos ni Ñ y su longitud máxima es de 20 letras.");
-        }
+    private String crearCursor(OrdenCursor orden, EmpleadoResumenDto ultimo) {
+        String valor = switch (orden) {
+            case ID -> null;
+            case PRIMER_APELLIDO -> ultimo.getPrimerApellido();
+            case FECHA_REGISTRO -> ultimo.getFechaRegistro().toInstant().toString();
+        };
+        return CursorUtil.codificar(orden, valor, ultimo.getId());
     }
 
 }
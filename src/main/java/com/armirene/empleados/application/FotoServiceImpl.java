@@ -0,0 +1,203 @@
+package com.armirene.empleados.application;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.FotoTamanoException;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.util.enums.TipoImagen;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Implementación del almacén de fotos de empleados.
+ * Las fotos se guardan como bytes en un directorio direccionado por contenido:
+ * el nombre de cada archivo es el SHA-256 de sus bytes, de modo que la fila del
+ * empleado solo guarda el hash y una misma imagen se almacena una sola vez.
+ */
+@Service
+public class FotoServiceImpl implements FotoService {
+
+    private static final int TAMANO_BUFER = 8192;
+
+    private static final int LONGITUD_CABECERA = 12;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${empleados.fotos.directorio}")
+    private String directorio;
+
+    @Value("${empleados.fotos.tamano-maximo:5MB}")
+    private DataSize tamanoMaximo;
+
+    private DistributionSummary tamanoFotos;
+
+    @PostConstruct
+    void registrarMetricas() {
+        tamanoFotos = DistributionSummary.builder("empleados.foto.bytes")
+                .description("Tamaño de las fotos decodificadas recibidas")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(16.0 * 1024 * 1024)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Guarda los bytes de una foto ya decodificada, como la que llega en Base64
+     * dentro del JSON del empleado o de un archivo de importación. Pasa por las
+     * mismas comprobaciones de formato y tamaño que una foto subida por bloques.
+     *
+     * @param contenido los bytes de la imagen.
+     * @return el hash SHA-256 en hexadecimal que identifica la foto.
+     * @throws IllegalArgumentException si el contenido no es PNG, JPEG, GIF ni
+     *                                  WebP.
+     * @throws FotoTamanoException      si supera
+     *                                  {@code empleados.fotos.tamano-maximo}.
+     */
+    @Override
+    public String guardar(byte[] contenido) {
+        return guardar(new ByteArrayInputStream(contenido));
+    }
+
+    /**
+     * Guarda una foto leyéndola por bloques de {@value #TAMANO_BUFER} bytes, sin
+     * cargarla completa en memoria. Los bytes se escriben en un archivo temporal
+     * del almacén a la vez que se calcula su hash, y al final el archivo se mueve
+     * a su ubicación o se descarta si la foto ya existía. El formato se reconoce
+     * por los primeros bytes, no por el tipo de contenido que declare el cliente.
+     *
+     * @param contenido el flujo con los bytes de la imagen; no se cierra.
+     * @return el hash SHA-256 en hexadecimal que identifica la foto.
+     * @throws IllegalArgumentException si el contenido no es PNG, JPEG, GIF ni
+     *                                  WebP.
+     * @throws FotoTamanoException      si supera
+     *                                  {@code empleados.fotos.tamano-maximo}.
+     */
+    @Override
+    public String guardar(InputStream contenido) {
+        Path temporal = null;
+        try {
+            byte[] bufer = new byte[TAMANO_BUFER];
+            int leidos = contenido.readNBytes(bufer, 0, LONGITUD_CABECERA);
+            if (TipoImagen.detectar(bufer, leidos) == null) {
+                throw new IllegalArgumentException("La foto debe ser una imagen PNG, JPEG, GIF o WebP.");
+            }
+
+            Path raiz = Files.createDirectories(Paths.get(directorio));
+            temporal = Files.createTempFile(raiz, "subida", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long total = 0;
+            try (OutputStream salida = Files.newOutputStream(temporal)) {
+                do {
+                    total += leidos;
+                    if (total > tamanoMaximo.toBytes()) {
+                        throw new FotoTamanoException(
+                                "La foto supera el tamaño máximo de " + tamanoMaximo.toKilobytes() + " KB.");
+                    }
+                    digest.update(bufer, 0, leidos);
+                    salida.write(bufer, 0, leidos);
+                } while ((leidos = contenido.read(bufer)) != -1);
+            }
+            tamanoFotos.record(total);
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path destino = ubicar(hash);
+            if (!Files.exists(destino)) {
+                Files.createDirectories(destino.getParent());
+                try {
+                    Files.move(temporal, destino);
+                } catch (FileAlreadyExistsException e) {
+                    // Otra solicitud guardó la misma foto al mismo tiempo.
+                }
+            }
+            return hash;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible guardar la foto del empleado.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (temporal != null) {
+                try {
+                    Files.deleteIfExists(temporal);
+                } catch (IOException e) {
+                    // El archivo temporal quedará en el almacén; no afecta a las fotos.
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene el hash de la foto de un empleado sin cargar el resto de la fila.
+     *
+     * @param idEmpleado el ID del empleado.
+     * @return el hash de la foto, o vacío si el empleado no existe o no tiene
+     *         foto.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> obtenerHash(Long idEmpleado) {
+        return empleadoRepository.obtenerFotoHash(idEmpleado);
+    }
+
+    /**
+     * Obtiene la foto almacenada con el hash indicado. El archivo no se abre hasta
+     * que se lee el recurso, lo que permite enviarlo en streaming.
+     *
+     * @param hash el hash SHA-256 de la foto.
+     * @return el recurso con los bytes de la foto, o vacío si no existe.
+     */
+    @Override
+    public Optional<Resource> obtener(String hash) {
+        Path ruta = ubicar(hash);
+        return Files.isReadable(ruta) ? Optional.of(new FileSystemResource(ruta)) : Optional.empty();
+    }
+
+    /**
+     * Determina el tipo de contenido de una foto leyendo sus primeros bytes.
+     *
+     * @param foto el recurso de la foto.
+     * @return el tipo MIME de la imagen, o {@code application/octet-stream} si no
+     *         se reconoce.
+     */
+    @Override
+    public String obtenerTipoContenido(Resource foto) {
+        byte[] cabecera = new byte[12];
+        try (InputStream entrada = foto.getInputStream()) {
+            TipoImagen tipo = TipoImagen.detectar(cabecera, entrada.readNBytes(cabecera, 0, cabecera.length));
+            return tipo != null ? tipo.getValor() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible leer la foto del empleado.", e);
+        }
+    }
+
+    private Path ubicar(String hash) {
+        return Paths.get(directorio, hash.substring(0, 2), hash);
+    }
+}
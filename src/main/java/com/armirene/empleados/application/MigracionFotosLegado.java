@@ -0,0 +1,90 @@
+package com.armirene.empleados.application;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.domain.MiniaturaService;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.FotoTamanoException;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Migra las fotos guardadas antes del almacén de fotos, como texto Base64 en la
+ * columna {@code empleado.foto}, al almacén direccionado por contenido. Procesa
+ * los empleados por lotes ordenados por ID y deja la columna en {@code NULL}
+ * una vez copiada la foto. Las fotos que no son una imagen admitida o superan
+ * el tamaño máximo se quedan en la columna y se registran para corregirlas a
+ * mano. Se activa con {@code empleados.fotos.migrar-legado=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "empleados.fotos.migrar-legado", havingValue = "true")
+public class MigracionFotosLegado implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MigracionFotosLegado.class);
+
+    private static final int TAMANO_LOTE = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FotoService fotoService;
+
+    @Autowired
+    private MiniaturaService miniaturaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long ultimoId = 0;
+        int migradas = 0;
+        List<Map<String, Object>> lote;
+        do {
+            lote = jdbcTemplate.queryForList(
+                    "SELECT id, foto FROM empleado WHERE foto IS NOT NULL AND id > ? ORDER BY id LIMIT ?",
+                    ultimoId, TAMANO_LOTE);
+            for (Map<String, Object> fila : lote) {
+                ultimoId = ((Number) fila.get("id")).longValue();
+                byte[] foto;
+                try {
+                    foto = decodificar((String) fila.get("foto"));
+                } catch (IllegalArgumentException e) {
+                    log.warn("La foto del empleado {} no es Base64 válido y no se migró.", ultimoId);
+                    continue;
+                }
+                try {
+                    String hash = fotoService.guardar(foto);
+                    jdbcTemplate.update(
+                            "UPDATE empleado SET foto_hash = ?, foto = NULL, version = version + 1 WHERE id = ?",
+                            hash, ultimoId);
+                    miniaturaService.generar(hash);
+                    migradas++;
+                } catch (IllegalArgumentException | FotoTamanoException e) {
+                    log.warn("La foto del empleado {} no se migró: {}", ultimoId, e.getMessage());
+                }
+            }
+        } while (lote.size() == TAMANO_LOTE);
+        // Las filas se actualizaron por JDBC, fuera de la caché de segundo nivel.
+        entityManagerFactory.getCache().evict(Empleado.class);
+        log.info("Fotos migradas al almacén: {}", migradas);
+    }
+
+    private byte[] decodificar(String foto) {
+        int coma = foto.indexOf(',');
+        return Base64.getDecoder().decode(foto.startsWith("data:") && coma > 0 ? foto.substring(coma + 1) : foto);
+    }
+}
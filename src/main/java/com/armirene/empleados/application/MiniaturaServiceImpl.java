@@ -0,0 +1,265 @@
+package com.armirene.empleados.application;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.domain.MiniaturaService;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Genera y sirve las miniaturas de las fotos de empleados. Cada foto se
+ * decodifica una sola vez, se recorta al cuadrado central y se reduce a cada
+ * tamaño configurado, de mayor a menor, partiendo del tamaño anterior. Las
+ * miniaturas se guardan como JPEG junto al almacén de fotos, con el hash de la
+ * foto original como nombre, así que una misma foto se procesa una sola vez.
+ * Mientras una foto está en proceso las solicitudes repetidas reciben la misma
+ * tarea, y una foto que no se pudo procesar no se vuelve a intentar hasta que
+ * se reinicie la aplicación.
+ */
+@Service
+public class MiniaturaServiceImpl implements MiniaturaService {
+
+    private static final Logger log = LoggerFactory.getLogger(MiniaturaServiceImpl.class);
+
+    private static final long MAXIMO_PIXELES = 40_000_000L;
+
+    @Autowired
+    private FotoService fotoService;
+
+    @Autowired
+    @Qualifier("miniaturasExecutor")
+    private ThreadPoolTaskExecutor miniaturasExecutor;
+
+    @Value("${empleados.fotos.directorio}")
+    private String directorio;
+
+    @Value("${empleados.fotos.miniaturas.tamanos:48,128,256}")
+    private int[] tamanos;
+
+    @Value("${empleados.fotos.miniaturas.calidad:0.8}")
+    private float calidad;
+
+    private final Map<String, CompletableFuture<Void>> enCurso = new ConcurrentHashMap<>();
+
+    private final Set<String> fallidas = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void ordenarTamanos() {
+        Arrays.sort(tamanos);
+        if (tamanos.length == 0 || tamanos[0] <= 0) {
+            throw new IllegalStateException("empleados.fotos.miniaturas.tamanos debe tener tamaños positivos.");
+        }
+    }
+
+    /**
+     * Encola la generación de las miniaturas de una foto en el grupo de hilos de
+     * miniaturas y retorna de inmediato. Si la foto ya está en proceso retorna la
+     * misma tarea; si antes falló, o si la cola está llena, no encola nada.
+     *
+     * @param hash el hash de la foto original.
+     * @return la tarea, que termina cuando todas las miniaturas están guardadas.
+     */
+    @Override
+    public CompletableFuture<Void> generar(String hash) {
+        if (fallidas.contains(hash)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> tarea = new CompletableFuture<>();
+        CompletableFuture<Void> existente = enCurso.putIfAbsent(hash, tarea);
+        if (existente != null) {
+            return existente;
+        }
+        try {
+            CompletableFuture.runAsync(() -> generarMiniaturas(hash), miniaturasExecutor)
+                    .whenComplete((resultado, error) -> {
+                        enCurso.remove(hash, tarea);
+                        if (error == null) {
+                            tarea.complete(null);
+                            return;
+                        }
+                        fallidas.add(hash);
+                        log.error("No fue posible generar las miniaturas de la foto {}.", hash, error);
+                        tarea.completeExceptionally(error);
+                    });
+        } catch (TaskRejectedException e) {
+            enCurso.remove(hash, tarea);
+            log.warn("Cola de miniaturas llena; la foto {} se procesará cuando se solicite.", hash);
+            tarea.complete(null);
+        }
+        return tarea;
+    }
+
+    /**
+     * Obtiene la miniatura más pequeña que cubre el tamaño solicitado. Si aún no
+     * se ha generado, la encola y retorna vacío para que se sirva la original.
+     *
+     * @param hash   el hash de la foto original.
+     * @param tamano el lado en píxeles que necesita el cliente.
+     * @return la miniatura, o vacío si se debe servir la foto original.
+     */
+    @Override
+    public Optional<Resource> obtener(String hash, int tamano) {
+        if (tamano <= 0) {
+            throw new IllegalArgumentException("El tamaño de la foto debe ser mayor que cero.");
+        }
+        for (int candidato : tamanos) {
+            if (candidato >= tamano) {
+                Path ruta = ubicar(hash, candidato);
+                if (Files.isReadable(ruta)) {
+                    return Optional.of(new FileSystemResource(ruta));
+                }
+                if (!fallidas.contains(hash) && fotoService.obtener(hash).isPresent()) {
+                    generar(hash);
+                }
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void generarMiniaturas(String hash) {
+        // La menor se escribe al final, así que si existe ya están todas.
+        if (Files.exists(ubicar(hash, tamanos[0]))) {
+            return;
+        }
+        Optional<Resource> foto = fotoService.obtener(hash);
+        if (foto.isEmpty()) {
+            return;
+        }
+        try {
+            BufferedImage imagen = leer(foto.get());
+            if (imagen == null) {
+                log.warn("La foto {} no se puede decodificar o es demasiado grande; se sirve la original.", hash);
+                fallidas.add(hash);
+                return;
+            }
+            BufferedImage actual = recortarCuadrado(imagen);
+            for (int i = tamanos.length - 1; i >= 0; i--) {
+                actual = reducir(actual, tamanos[i]);
+                guardar(actual, ubicar(hash, tamanos[i]));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible generar las miniaturas de la foto " + hash, e);
+        }
+    }
+
+    private BufferedImage leer(Resource foto) throws IOException {
+        try (InputStream entrada = foto.getInputStream();
+                ImageInputStream imagen = ImageIO.createImageInputStream(entrada)) {
+            Iterator<ImageReader> lectores = ImageIO.getImageReaders(imagen);
+            if (!lectores.hasNext()) {
+                return null;
+            }
+            ImageReader lector = lectores.next();
+            try {
+                lector.setInput(imagen, true, true);
+                if ((long) lector.getWidth(0) * lector.getHeight(0) > MAXIMO_PIXELES) {
+                    return null;
+                }
+                return lector.read(0);
+            } finally {
+                lector.dispose();
+            }
+        }
+    }
+
+    /**
+     * Recorta el cuadrado central de la imagen y lo pasa a RGB sobre fondo blanco,
+     * que es lo que admite JPEG.
+     */
+    private BufferedImage recortarCuadrado(BufferedImage imagen) {
+        int lado = Math.min(imagen.getWidth(), imagen.getHeight());
+        int x = (imagen.getWidth() - lado) / 2;
+        int y = (imagen.getHeight() - lado) / 2;
+        BufferedImage cuadrado = new BufferedImage(lado, lado, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graficos = cuadrado.createGraphics();
+        graficos.setColor(Color.WHITE);
+        graficos.fillRect(0, 0, lado, lado);
+        graficos.drawImage(imagen, 0, 0, lado, lado, x, y, x + lado, y + lado, null);
+        graficos.dispose();
+        return cuadrado;
+    }
+
+    /**
+     * Reduce la imagen a la mitad en cada paso hasta llegar al lado pedido, lo que
+     * con interpolación bilineal da un resultado cercano al promedio de área a una
+     * fracción del costo. Una imagen menor que el lado pedido no se amplía.
+     */
+    private BufferedImage reducir(BufferedImage imagen, int lado) {
+        BufferedImage actual = imagen;
+        int ladoActual = imagen.getWidth();
+        while (ladoActual > lado) {
+            ladoActual = Math.max(ladoActual / 2, lado);
+            BufferedImage siguiente = new BufferedImage(ladoActual, ladoActual, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graficos = siguiente.createGraphics();
+            graficos.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graficos.drawImage(actual, 0, 0, ladoActual, ladoActual, null);
+            graficos.dispose();
+            actual = siguiente;
+        }
+        return actual;
+    }
+
+    private void guardar(BufferedImage imagen, Path destino) throws IOException {
+        Files.createDirectories(destino.getParent());
+        Path temporal = Files.createTempFile(destino.getParent(), destino.getFileName().toString(), ".tmp");
+        ImageWriter escritor = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (OutputStream salida = Files.newOutputStream(temporal);
+                ImageOutputStream imagenSalida = ImageIO.createImageOutputStream(salida)) {
+            ImageWriteParam parametros = escritor.getDefaultWriteParam();
+            parametros.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parametros.setCompressionQuality(calidad);
+            escritor.setOutput(imagenSalida);
+            escritor.write(null, new IIOImage(imagen, null, null), parametros);
+        } finally {
+            escritor.dispose();
+        }
+        try {
+            Files.move(temporal, destino);
+        } catch (FileAlreadyExistsException e) {
+            Files.delete(temporal);
+        }
+    }
+
+    private Path ubicar(String hash, int tamano) {
+        return Paths.get(directorio, "miniaturas", hash.substring(0, 2), hash + "-" + tamano + ".jpg");
+    }
+}
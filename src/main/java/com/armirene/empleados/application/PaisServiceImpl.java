@@ -1,9 +1,11 @@
 package com.armirene.empleados.application;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.armirene.empleados.domain.PaisService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,8 +34,24 @@ public class PaisServiceImpl implements PaisService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "paises", key = "'todos'")
     public List<Pais> findAll() {
         return paisRepository.findAll();
     }
 
+    /**
+     * Busca el país por su ID. El resultado se guarda en la caché del catálogo,
+     * así que las creaciones y actualizaciones de empleados no consultan la base
+     * de datos para resolverlo.
+     *
+     * @param id el ID a buscar.
+     * @return un {@link Optional} con el registro encontrado, o vacío si no
+     *         existe.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "paises", key = "#id", condition = "#id != null")
+    public Optional<Pais> findById(Integer id) {
+        return id != null ? paisRepository.findById(id) : Optional.empty();
+    }
 }
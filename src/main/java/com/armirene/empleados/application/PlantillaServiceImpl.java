@@ -0,0 +1,244 @@
+package com.armirene.empleados.application;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.armirene.empleados.domain.AreaService;
+import com.armirene.empleados.domain.PaisService;
+import com.armirene.empleados.domain.PlantillaService;
+import com.armirene.empleados.infrastructure.dto.ConteoPlantillaDto;
+import com.armirene.empleados.infrastructure.dto.GrupoPlantillaDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.ConteoPlantilla;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.repository.ConteoPlantillaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+
+/**
+ * Implementación del reporte de plantilla (cantidad de empleados por país,
+ * área, estado y mes de ingreso). Los conteos se guardan en la tabla
+ * {@code conteo_plantilla} y se actualizan en la misma transacción de cada
+ * alta, edición o baja de un empleado, de modo que el reporte nunca recorre la
+ * tabla de empleados. Las operaciones masivas, que no cargan los empleados que
+ * modifican, solo marcan los conteos como pendientes y una tarea en segundo
+ * plano los reconstruye.
+ */
+@Service
+public class PlantillaServiceImpl implements PlantillaService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlantillaServiceImpl.class);
+
+    @Autowired
+    private ConteoPlantillaRepository conteoPlantillaRepository;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisService paisService;
+
+    @Autowired
+    private AreaService areaService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicBoolean pendiente = new AtomicBoolean();
+
+    /**
+     * Obtiene la cantidad de empleados agrupada por las dimensiones indicadas,
+     * con los nombres de país y área tomados de los catálogos en caché.
+     *
+     * @param dimensiones las dimensiones del agrupamiento.
+     * @param idPais      filtro opcional por país.
+     * @param idArea      filtro opcional por área.
+     * @param estado      filtro opcional por estado.
+     * @return un conteo por grupo, ordenado por las dimensiones.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ConteoPlantillaDto> contar(List<DimensionPlantilla> dimensiones, Integer idPais, Integer idArea,
+            String estado) {
+        List<ConteoPlantillaDto> conteos = conteoPlantillaRepository.agrupar(dimensiones, idPais, idArea, estado);
+        if (dimensiones.contains(DimensionPlantilla.PAIS)) {
+            Map<Integer, String> paises = new HashMap<>();
+            for (Pais pais : paisService.findAll()) {
+                paises.put(pais.getId(), pais.getNombre());
+            }
+            conteos.forEach(conteo -> conteo.setPais(paises.get(conteo.getIdPais())));
+        }
+        if (dimensiones.contains(DimensionPlantilla.AREA)) {
+            Map<Integer, String> areas = new HashMap<>();
+            for (Area area : areaService.findAll()) {
+                areas.put(area.getId(), area.getNombre());
+            }
+            conteos.forEach(conteo -> conteo.setArea(areas.get(conteo.getIdArea())));
+        }
+        return conteos;
+    }
+
+    /**
+     * Suma una cantidad, positiva o negativa, al conteo de un grupo.
+     *
+     * @param grupo    el grupo del empleado.
+     * @param cantidad la cantidad a sumar.
+     */
+    @Override
+    @Transactional
+    public void registrar(GrupoPlantillaDto grupo, long cantidad) {
+        registrar(Map.of(grupo, cantidad));
+    }
+
+    /**
+     * Suma a cada grupo su cantidad. El incremento bloquea la fila del grupo hasta
+     * el final de la transacción; los grupos se recorren en orden de clave para
+     * que dos transacciones que modifican los mismos grupos los bloqueen en el
+     * mismo orden y no se interbloqueen.
+     *
+     * @param cambios la cantidad a sumar por grupo.
+     */
+    @Override
+    @Transactional
+    public void registrar(Map<GrupoPlantillaDto, Long> cambios) {
+        List<GrupoPlantillaDto> grupos = new ArrayList<>(cambios.keySet());
+        grupos.sort(Comparator.comparing(GrupoPlantillaDto::getClave));
+        for (GrupoPlantillaDto grupo : grupos) {
+            incrementar(grupo, cambios.get(grupo));
+        }
+    }
+
+    /**
+     * Pasa a un empleado de un grupo a otro, si cambió alguna de sus dimensiones.
+     *
+     * @param anterior el grupo del empleado antes de modificarlo.
+     * @param nuevo    el grupo del empleado después de modificarlo.
+     */
+    @Override
+    @Transactional
+    public void mover(GrupoPlantillaDto anterior, GrupoPlantillaDto nuevo) {
+        if (anterior.equals(nuevo)) {
+            return;
+        }
+        Map<GrupoPlantillaDto, Long> cambios = new HashMap<>();
+        cambios.put(anterior, -1L);
+        cambios.put(nuevo, 1L);
+        registrar(cambios);
+    }
+
+    /**
+     * Marca los conteos como pendientes de reconstruir cuando se confirme la
+     * transacción actual. Lo usan las operaciones masivas.
+     */
+    @Override
+    public void marcarPendiente() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendiente.set(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendiente.set(true);
+            }
+        });
+    }
+
+    /**
+     * Recalcula todos los conteos a partir de la tabla de empleados. Primero
+     * bloquea las filas de conteos, lo que espera a las transacciones que ya
+     * incrementaron alguna y detiene a las nuevas hasta terminar; así el conteo
+     * de empleados que se lee después incluye a las primeras, y las segundas
+     * suman sobre el valor reconstruido.
+     */
+    @Override
+    @Transactional
+    public void reconstruir() {
+        pendiente.set(false);
+        reconstruirConteos();
+    }
+
+    /**
+     * Reconstruye los conteos si alguna operación masiva los marcó como
+     * pendientes. Si falla, quedan pendientes para el siguiente intento.
+     */
+    @Override
+    public void reconstruirSiPendiente() {
+        if (!pendiente.getAndSet(false)) {
+            return;
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> reconstruirConteos());
+        } catch (RuntimeException e) {
+            pendiente.set(true);
+            log.warn("No fue posible reconstruir el conteo de plantilla; se reintentará.", e);
+        }
+    }
+
+    private void reconstruirConteos() {
+        Map<String, ConteoPlantilla> conteos = new HashMap<>();
+        for (ConteoPlantilla conteo : conteoPlantillaRepository.bloquearTodos()) {
+            conteo.setCantidad(0L);
+            conteos.put(conteo.getClave(), conteo);
+        }
+        for (Object[] fila : empleadoRepository.contarPorGrupoPlantilla()) {
+            LocalDate mesIngreso = fila[3] != null
+                    ? LocalDate.of(((Number) fila[3]).intValue(), ((Number) fila[4]).intValue(), 1)
+                    : null;
+            GrupoPlantillaDto grupo = new GrupoPlantillaDto((Integer) fila[0], (Integer) fila[1], (String) fila[2],
+                    mesIngreso);
+            long cantidad = ((Number) fila[5]).longValue();
+            ConteoPlantilla conteo = conteos.get(grupo.getClave());
+            if (conteo != null) {
+                conteo.setCantidad(cantidad);
+                continue;
+            }
+            conteo = new ConteoPlantilla();
+            conteo.setClave(grupo.getClave());
+            conteo.setIdPais(grupo.getIdPais());
+            conteo.setIdArea(grupo.getIdArea());
+            conteo.setEstado(grupo.getEstado());
+            conteo.setMesIngreso(grupo.getMesIngreso());
+            conteo.setCantidad(cantidad);
+            conteos.put(conteo.getClave(), conteoPlantillaRepository.save(conteo));
+        }
+        log.info("Conteo de plantilla reconstruido: {} grupos", conteos.size());
+    }
+
+    private void incrementar(GrupoPlantillaDto grupo, long cantidad) {
+        if (cantidad == 0) {
+            return;
+        }
+        if (conteoPlantillaRepository.incrementar(grupo.getClave(), cantidad) == 0) {
+            inicializar(grupo);
+            conteoPlantillaRepository.incrementar(grupo.getClave(), cantidad);
+        }
+    }
+
+    /**
+     * Crea en cero la fila de un grupo que aún no existe, dentro de la
+     * transacción actual: la inserción no hace nada si otra transacción creó la
+     * fila primero, así que no hace falta una segunda conexión del pool para
+     * aislar el conflicto de clave.
+     *
+     * @param grupo el grupo a crear.
+     */
+    private void inicializar(GrupoPlantillaDto grupo) {
+        conteoPlantillaRepository.insertarSiNoExiste(grupo);
+    }
+}
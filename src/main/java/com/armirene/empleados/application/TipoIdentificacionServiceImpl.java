@@ -1,9 +1,11 @@
 package com.armirene.empleados.application;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.armirene.empleados.domain.TipoIdentificacionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,8 +33,24 @@ public class TipoIdentificacionServiceImpl implements TipoIdentificacionService
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "tiposIdentificacion", key = "'todos'")
     public List<TipoIdentificacion> findAll() {
         return tipoIdentificacionRepository.findAll();
     }
 
+    /**
+     * Busca el tipo de identificacion por su ID. El resultado se guarda en la caché del catálogo,
+     * así que las creaciones y actualizaciones de empleados no consultan la base
+     * de datos para resolverlo.
+     *
+     * @param id el ID a buscar.
+     * @return un {@link Optional} con el registro encontrado, o vacío si no
+     *         existe.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "tiposIdentificacion", key = "#id", condition = "#id != null")
+    public Optional<TipoIdentificacion> findById(Integer id) {
+        return id != null ? tipoIdentificacionRepository.findById(id) : Optional.empty();
+    }
 }
@@ -1,10 +1,13 @@
 package com.armirene.empleados.domain;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.armirene.empleados.infrastructure.entity.Area;
 
 public interface AreaService {
 
     public List<Area> findAll();
+
+    public Optional<Area> findById(Integer id);
 }
@@ -0,0 +1,15 @@
+package com.armirene.empleados.domain;
+
+import java.util.List;
+
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+public interface BusquedaEmpleadoService {
+
+    public List<Long> buscar(String texto, int limite);
+
+    public void indexar(Empleado empleado);
+
+    public void eliminar(Long idEmpleado);
+
+}
@@ -0,0 +1,34 @@
+package com.armirene.empleados.domain;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.armirene.empleados.infrastructure.dto.CambioEmpleadoDto;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.util.ReceptorCambios;
+import com.armirene.empleados.infrastructure.util.enums.TipoCambio;
+
+public interface CambioEmpleadoService {
+
+    public void registrar(Empleado empleado, TipoCambio tipo);
+
+    public void registrar(Specification<Empleado> specification, TipoCambio tipo);
+
+    public void registrarActualizacion(Specification<Empleado> specification);
+
+    public long obtenerUltimaPosicion();
+
+    public List<CambioEmpleadoDto> buscar(long desde, int limite);
+
+    public void suscribir(long desde, int limite, ReceptorCambios receptor);
+
+    public void cancelar(ReceptorCambios receptor);
+
+    public int publicar();
+
+    public void difundir();
+
+    public int depurar();
+
+}
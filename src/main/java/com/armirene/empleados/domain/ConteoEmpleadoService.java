@@ -0,0 +1,14 @@
+package com.armirene.empleados.domain;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+public interface ConteoEmpleadoService {
+
+    public long contar(EmpleadoDto filter, Specification<Empleado> specification);
+
+    public void limpiarCache();
+
+}
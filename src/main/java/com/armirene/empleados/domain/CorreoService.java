@@ -0,0 +1,11 @@
+package com.armirene.empleados.domain;
+
+import java.util.List;
+
+public interface CorreoService {
+
+    public String asignarCorreo(String correoBase, String dominio);
+
+    public List<String> asignarCorreos(String correoBase, String dominio, int cantidad);
+
+}
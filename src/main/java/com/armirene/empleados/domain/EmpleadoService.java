@@ -1,23 +1,55 @@
 package com.armirene.empleados.domain;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.lang.NonNull;
 
 import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoParcialDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.dto.ImportacionResultadoDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaResultadoDto;
+import com.armirene.empleados.infrastructure.dto.PaginaDto;
 import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.util.EscritorEmpleados;
+import com.armirene.empleados.infrastructure.util.LectorEmpleados;
 
 public interface EmpleadoService {
 
-    public Page<Empleado> findAll(EmpleadoDto filter, int page, int size);
+    public Page<EmpleadoResumenDto> findAll(EmpleadoDto filter, int page, int size);
 
-    public Empleado save(EmpleadoDto empleadoDto, byte[] imagenBytes);
+    public PaginaDto<EmpleadoResumenDto> findAllSinConteo(EmpleadoDto filter, int page, int size);
+
+    public PaginaDto<EmpleadoResumenDto> findAllConteoEstimado(EmpleadoDto filter, int page, int size);
+
+    public PaginaDto<EmpleadoResumenDto> findAllAfter(EmpleadoDto filter, String after, String orden, int size);
+
+    public PaginaDto<EmpleadoResumenDto> buscar(EmpleadoDto filter, String texto, int size);
+
+    public Empleado save(EmpleadoDto empleadoDto, InputStream foto);
+
+    public ImportacionResultadoDto importar(LectorEmpleados lector) throws IOException;
+
+    public long exportar(EmpleadoDto filter, EscritorEmpleados escritor) throws IOException;
 
     public Optional<Empleado> findById(@NonNull Long id);
 
     public Optional<Empleado> update(Long id, EmpleadoDto empleadoDto) throws Exception;
 
+    public Optional<Empleado> update(Long id, EmpleadoDto empleadoDto, String siCoincide) throws Exception;
+
+    public Optional<Empleado> actualizarParcial(Long id, EmpleadoParcialDto cambios);
+
     public void deleteById(Long id);
 
+    public Optional<Empleado> asignarFoto(Long id, String hash);
+
+    public OperacionMasivaResultadoDto cambiarEstado(OperacionMasivaDto operacion);
+
+    public OperacionMasivaResultadoDto eliminar(OperacionMasivaDto operacion);
+
 }
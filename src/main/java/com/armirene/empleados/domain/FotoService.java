@@ -0,0 +1,20 @@
+package com.armirene.empleados.domain;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+import org.springframework.core.io.Resource;
+
+public interface FotoService {
+
+    public String guardar(byte[] contenido);
+
+    public String guardar(InputStream contenido);
+
+    public Optional<String> obtenerHash(Long idEmpleado);
+
+    public Optional<Resource> obtener(String hash);
+
+    public String obtenerTipoContenido(Resource foto);
+
+}
@@ -0,0 +1,13 @@
+package com.armirene.empleados.domain;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.core.io.Resource;
+
+public interface MiniaturaService {
+
+    public CompletableFuture<Void> generar(String hash);
+
+    public Optional<Resource> obtener(String hash, int tamano);
+}
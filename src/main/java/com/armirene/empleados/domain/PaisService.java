@@ -1,6 +1,7 @@
 package com.armirene.empleados.domain;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.armirene.empleados.infrastructure.entity.Pais;
 
@@ -8,4 +9,6 @@ public interface PaisService {
 
     public List<Pais> findAll();
 
+    public Optional<Pais> findById(Integer id);
+
 }
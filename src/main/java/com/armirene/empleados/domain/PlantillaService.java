@@ -0,0 +1,27 @@
+package com.armirene.empleados.domain;
+
+import java.util.List;
+import java.util.Map;
+
+import com.armirene.empleados.infrastructure.dto.ConteoPlantillaDto;
+import com.armirene.empleados.infrastructure.dto.GrupoPlantillaDto;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+
+public interface PlantillaService {
+
+    public List<ConteoPlantillaDto> contar(List<DimensionPlantilla> dimensiones, Integer idPais, Integer idArea,
+            String estado);
+
+    public void registrar(GrupoPlantillaDto grupo, long cantidad);
+
+    public void registrar(Map<GrupoPlantillaDto, Long> cambios);
+
+    public void mover(GrupoPlantillaDto anterior, GrupoPlantillaDto nuevo);
+
+    public void marcarPendiente();
+
+    public void reconstruir();
+
+    public void reconstruirSiPendiente();
+
+}
@@ -1,6 +1,7 @@
 package com.armirene.empleados.domain;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
 
@@ -8,4 +9,6 @@ public interface TipoIdentificacionService {
 
     public List<TipoIdentificacion> findAll();
 
+    public Optional<TipoIdentificacion> findById(Integer id);
+
 }
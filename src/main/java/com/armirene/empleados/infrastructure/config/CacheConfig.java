@@ -0,0 +1,31 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cachés que necesitan una configuración distinta de la general de
+ * {@code spring.cache.caffeine.spec}.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Los conteos del listado se invalidan con cada escritura de esta instancia,
+     * pero otras instancias también escriben en la tabla, así que expiran antes
+     * que los catálogos.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> conteosEmpleadosCustomizer(
+            @Value("${empleados.conteos.expiracion:5m}") Duration expiracion) {
+        return cacheManager -> cacheManager.registerCustomCache("conteosEmpleados",
+                Caffeine.newBuilder().maximumSize(1000).expireAfterWrite(expiracion).build());
+    }
+}
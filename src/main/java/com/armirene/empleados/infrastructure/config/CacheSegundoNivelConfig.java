@@ -0,0 +1,71 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Caché de segundo nivel de Hibernate para los empleados y los catálogos que
+ * referencian (país, área y tipo de identificación). Cada región es una caché
+ * Caffeine acotada en tamaño y con expiración por escritura; Hibernate la
+ * actualiza al confirmar cada {@code save}, {@code update} o {@code delete}, y
+ * la invalida en las actualizaciones masivas JPQL de la entidad.
+ */
+@Configuration
+public class CacheSegundoNivelConfig {
+
+    private static final List<String> REGIONES_CATALOGOS = List.of("pais", "area", "tipoIdentificacion");
+
+    private CacheManager cacheManager;
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivelCustomizer(
+            @Value("${empleados.cache.empleado.tamano-maximo:10000}") long tamanoEmpleados,
+            @Value("${empleados.cache.empleado.expiracion:10m}") Duration expiracionEmpleados,
+            @Value("${empleados.cache.catalogos.tamano-maximo:1000}") long tamanoCatalogos,
+            @Value("${empleados.cache.catalogos.expiracion:1h}") Duration expiracionCatalogos) {
+        // Un administrador propio por contexto, para que dos contextos en la misma
+        // JVM (por ejemplo en las pruebas) no compartan regiones.
+        cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("empleados-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache("empleado", region(tamanoEmpleados, expiracionEmpleados));
+        for (String region : REGIONES_CATALOGOS) {
+            cacheManager.createCache(region, region(tamanoCatalogos, expiracionCatalogos));
+        }
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @PreDestroy
+    void cerrar() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    private CaffeineConfiguration<Object, Object> region(long tamanoMaximo, Duration expiracion) {
+        CaffeineConfiguration<Object, Object> configuracion = new CaffeineConfiguration<>();
+        configuracion.setMaximumSize(OptionalLong.of(tamanoMaximo));
+        configuracion.setExpireAfterWrite(OptionalLong.of(expiracion.toNanos()));
+        configuracion.setStatisticsEnabled(true);
+        return configuracion;
+    }
+}
@@ -0,0 +1,33 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.armirene.empleados.domain.CambioEmpleadoService;
+
+/**
+ * Tareas que publican los cambios de empleados y depuran los antiguos. Ambas
+ * comparten un único hilo, así que la publicación nunca corre en paralelo
+ * consigo misma dentro de una instancia. Entre la confirmación de una escritura
+ * y la entrega de su cambio pasa a lo sumo el intervalo configurado.
+ */
+@Configuration
+public class CambiosConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler cambiosScheduler(CambioEmpleadoService cambioEmpleadoService,
+            @Value("${empleados.cambios.intervalo:250ms}") Duration intervalo,
+            @Value("${empleados.cambios.depuracion:1h}") Duration depuracion) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("cambios-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(cambioEmpleadoService::difundir, Instant.now().plus(intervalo), intervalo);
+        scheduler.scheduleWithFixedDelay(cambioEmpleadoService::depurar, Instant.now().plus(depuracion), depuracion);
+        return scheduler;
+    }
+}
@@ -0,0 +1,28 @@
+package com.armirene.empleados.infrastructure.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en el hilo actual, para
+ * medir cuántas sentencias ejecuta cada solicitud. No modifica las sentencias.
+ */
+public class ContadorSentencias implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<int[]> SENTENCIAS = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        SENTENCIAS.get()[0]++;
+        return sql;
+    }
+
+    public static void reiniciar() {
+        SENTENCIAS.get()[0] = 0;
+    }
+
+    public static int obtener() {
+        return SENTENCIAS.get()[0];
+    }
+}
@@ -0,0 +1,210 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Envía las transacciones de solo lectura a las réplicas, por turnos, y el resto
+ * de conexiones al primario. Una réplica que no responde a la verificación
+ * periódica, o que falla al entregar una conexión, deja de recibir lecturas
+ * hasta que vuelve a responder; sin réplicas disponibles las lecturas van al
+ * primario. Durante la ventana {@code leerEscrituras} después de confirmar una
+ * escritura, las lecturas de quien escribió también van al primario, para que
+ * no lea una réplica atrasada; las de los demás clientes siguen en las réplicas.
+ * El cliente es el hilo actual, salvo en las solicitudes web, donde
+ * {@link LeerEscriturasFilter} lo asocia a la cookie {@value #COOKIE}.
+ * <p>
+ * La transacción se marca como de solo lectura después de pedir la conexión,
+ * por lo que este origen de datos debe usarse detrás de un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class EnrutamientoDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrutamientoDataSource.class);
+
+    static final String PRIMARIO = "primario";
+
+    /**
+     * Cookie con el instante, en milisegundos desde la época, hasta el que las
+     * lecturas del cliente van al primario.
+     */
+    public static final String COOKIE = "leer-primario-hasta";
+
+    private static final ThreadLocal<Cliente> CLIENTE = ThreadLocal.withInitial(() -> new Cliente(0, null));
+
+    private static final int ESPERA_VERIFICACION_SEGUNDOS = 2;
+
+    private final DataSource primario;
+
+    private final Map<String, HikariDataSource> replicas;
+
+    private final List<String> nombresReplicas;
+
+    private final Set<String> caidas = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger siguiente = new AtomicInteger();
+
+    private final long leerEscrituras;
+
+    public EnrutamientoDataSource(DataSource primario, Map<String, HikariDataSource> replicas,
+            Duration leerEscrituras) {
+        this.primario = primario;
+        this.replicas = replicas;
+        this.nombresReplicas = new ArrayList<>(replicas.keySet());
+        this.leerEscrituras = leerEscrituras.toMillis();
+        Map<Object, Object> destinos = new HashMap<>(replicas);
+        destinos.put(PRIMARIO, primario);
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (leerEscrituras > 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+                Cliente cliente = CLIENTE.get();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        cliente.escribio(System.currentTimeMillis() + leerEscrituras);
+                    }
+                });
+            }
+            return PRIMARIO;
+        }
+        if (System.currentTimeMillis() < CLIENTE.get().leerPrimarioHasta) {
+            return PRIMARIO;
+        }
+        for (int intento = 0; intento < nombresReplicas.size(); intento++) {
+            String replica = nombresReplicas.get(Math.floorMod(siguiente.getAndIncrement(), nombresReplicas.size()));
+            if (!caidas.contains(replica)) {
+                return replica;
+            }
+        }
+        return PRIMARIO;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String destino = (String) determineCurrentLookupKey();
+        if (PRIMARIO.equals(destino)) {
+            return primario.getConnection();
+        }
+        try {
+            return replicas.get(destino).getConnection();
+        } catch (SQLException e) {
+            if (caidas.add(destino)) {
+                log.warn("La réplica {} no entregó una conexión; las lecturas van al primario: {}", destino,
+                        e.getMessage());
+            }
+            return primario.getConnection();
+        }
+    }
+
+    /**
+     * Verifica que cada réplica responda y actualiza las que reciben lecturas.
+     */
+    public void verificarReplicas() {
+        replicas.forEach((nombre, replica) -> {
+            boolean disponible = responde(replica);
+            if (disponible && caidas.remove(nombre)) {
+                log.info("La réplica {} vuelve a recibir lecturas.", nombre);
+            } else if (!disponible && caidas.add(nombre)) {
+                log.warn("La réplica {} no responde; las lecturas van al primario.", nombre);
+            }
+        });
+    }
+
+    private boolean responde(HikariDataSource replica) {
+        for (int intento = 0; intento < 2; intento++) {
+            try (Connection conexion = replica.getConnection()) {
+                if (conexion.isValid(ESPERA_VERIFICACION_SEGUNDOS)) {
+                    return true;
+                }
+            } catch (SQLException e) {
+                if (intento > 0) {
+                    return false;
+                }
+            }
+            // Conexiones abiertas antes de que la réplica se reiniciara: no siempre
+            // fallan con un estado SQL que Hikari reconozca como conexión rota, así
+            // que se descartan y se prueba una vez más con una conexión nueva.
+            if (replica.getHikariPoolMXBean() != null) {
+                replica.getHikariPoolMXBean().softEvictConnections();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica si una réplica está recibiendo lecturas.
+     *
+     * @param nombre el nombre de la réplica, {@code replica-1}, {@code replica-2}...
+     * @return {@code true} si la réplica está disponible.
+     */
+    public boolean estaDisponible(String nombre) {
+        return replicas.containsKey(nombre) && !caidas.contains(nombre);
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    /**
+     * Asocia el hilo actual a un cliente hasta {@link #terminarCliente()}.
+     *
+     * @param leerPrimarioHasta hasta cuándo, en milisegundos desde la época, leen
+     *                          del primario sus transacciones de solo lectura.
+     * @param alEscribir        recibe el nuevo límite cada vez que el cliente
+     *                          confirma una escritura.
+     */
+    public static void iniciarCliente(long leerPrimarioHasta, LongConsumer alEscribir) {
+        CLIENTE.set(new Cliente(leerPrimarioHasta, alEscribir));
+    }
+
+    /**
+     * Desasocia el hilo actual del cliente; sus lecturas vuelven a las réplicas.
+     */
+    public static void terminarCliente() {
+        CLIENTE.remove();
+    }
+
+    private static class Cliente {
+
+        private long leerPrimarioHasta;
+
+        private final LongConsumer alEscribir;
+
+        Cliente(long leerPrimarioHasta, LongConsumer alEscribir) {
+            this.leerPrimarioHasta = leerPrimarioHasta;
+            this.alEscribir = alEscribir;
+        }
+
+        void escribio(long hasta) {
+            leerPrimarioHasta = hasta;
+            if (alEscribir != null) {
+                alEscribir.accept(hasta);
+            }
+        }
+    }
+}
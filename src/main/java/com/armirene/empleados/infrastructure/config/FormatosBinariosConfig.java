@@ -0,0 +1,37 @@
+package com.armirene.empleados.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Formatos binarios para los consumidores internos de alto volumen. Con
+ * {@code Accept: application/cbor} o {@code Accept: application/x-jackson-smile}
+ * las respuestas se codifican en CBOR o Smile con los mismos campos y valores
+ * que en JSON, porque ambos convertidores parten del mismo constructor de
+ * {@code ObjectMapper} que Spring Boot usa para JSON. Sin esa cabecera la
+ * respuesta sigue siendo JSON.
+ */
+@Configuration
+public class FormatosBinariosConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // Smile repite por referencia los nombres de campo y los textos cortos ya
+        // escritos, lo que reduce los listados donde se repiten país y área.
+        SmileFactory smile = new SmileFactory();
+        smile.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(smile).build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Lleva la ventana de lectura de las propias escrituras de cada cliente en la
+ * cookie {@value EnrutamientoDataSource#COOKIE}. Una solicitud que confirma una
+ * escritura recibe la cookie con el instante hasta el que debe leer del
+ * primario, y las solicitudes que la traen leen del primario hasta entonces,
+ * aunque las atienda otro hilo u otra instancia. Así las escrituras de un
+ * cliente, o de las tareas en segundo plano, no llevan al primario las lecturas
+ * de los demás. Se activa junto con las réplicas.
+ */
+@Component
+@ConditionalOnProperty(name = "empleados.replicas.urls")
+public class LeerEscriturasFilter extends OncePerRequestFilter {
+
+    private final long leerEscrituras;
+
+    public LeerEscriturasFilter(@Value("${empleados.replicas.leer-escrituras:2s}") Duration leerEscrituras) {
+        this.leerEscrituras = leerEscrituras.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EnrutamientoDataSource.iniciarCliente(leerPrimarioHasta(request), hasta -> {
+            if (response.isCommitted()) {
+                return;
+            }
+            Cookie cookie = new Cookie(EnrutamientoDataSource.COOKIE, Long.toString(hasta));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, Duration.ofMillis(hasta - System.currentTimeMillis()).toSeconds() + 1));
+            response.addCookie(cookie);
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            EnrutamientoDataSource.terminarCliente();
+        }
+    }
+
+    /**
+     * Lee el límite de la cookie. Un valor inválido se ignora y uno más lejano
+     * que la ventana configurada se recorta, para que una cookie alterada no deje
+     * a un cliente leyendo siempre del primario.
+     */
+    private long leerPrimarioHasta(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (EnrutamientoDataSource.COOKIE.equals(cookie.getName())) {
+                try {
+                    return Math.min(Long.parseLong(cookie.getValue()), System.currentTimeMillis() + leerEscrituras);
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
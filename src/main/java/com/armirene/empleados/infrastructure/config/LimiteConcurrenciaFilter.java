@@ -0,0 +1,63 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Limita la cantidad de solicitudes que se atienden a la vez. Con hilos de
+ * plataforma el límite lo pone el pool de hilos de Tomcat; con hilos virtuales
+ * cada solicitud obtiene su propio hilo y, sin este filtro, miles de solicitudes
+ * quedarían esperando una conexión del pool JDBC hasta agotar su tiempo. Una
+ * solicitud que no obtiene cupo en {@code empleados.concurrencia.espera} recibe
+ * 503. Se activa con {@code empleados.concurrencia.maximo}.
+ */
+@Component
+@ConditionalOnProperty(name = "empleados.concurrencia.maximo")
+public class LimiteConcurrenciaFilter extends OncePerRequestFilter {
+
+    private final Semaphore cupos;
+
+    private final long esperaNanos;
+
+    public LimiteConcurrenciaFilter(@Value("${empleados.concurrencia.maximo}") int maximo,
+            @Value("${empleados.concurrencia.espera:1s}") Duration espera) {
+        this.cupos = new Semaphore(maximo, true);
+        this.esperaNanos = espera.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean adquirido;
+        try {
+            adquirido = cupos.tryAcquire(esperaNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            adquirido = false;
+        }
+        if (!adquirido) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Servicio saturado, intente de nuevo.");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            cupos.release();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.armirene.empleados.infrastructure.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Métricas propias de la aplicación. Las de las solicitudes HTTP, el pool de
+ * conexiones, las cachés y las estadísticas de Hibernate las registra Spring
+ * Boot; aquí se habilita {@code @Timed} en los servicios y el conteo de
+ * sentencias por solicitud.
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer contadorSentenciasCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorSentencias());
+    }
+}
@@ -0,0 +1,46 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Registra en {@code empleados.sql.sentencias} cuántas sentencias SQL ejecutó
+ * cada solicitud, con el patrón de la URL como etiqueta, a partir del conteo de
+ * {@link ContadorSentencias}.
+ */
+@Component
+public class MetricasSentenciasFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContadorSentencias.reiniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("empleados.sql.sentencias")
+                    .description("Sentencias SQL ejecutadas por solicitud")
+                    .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                    .tag("method", request.getMethod())
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1000.0)
+                    .register(meterRegistry)
+                    .record(ContadorSentencias.obtener());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.armirene.empleados.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Grupo de hilos acotado para generar las miniaturas de las fotos. Cuando la
+ * cola se llena las tareas se rechazan en lugar de bloquear a quien guarda la
+ * foto; la miniatura faltante se vuelve a pedir la primera vez que se sirve.
+ */
+@Configuration
+public class MiniaturasConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor miniaturasExecutor(
+            @Value("${empleados.fotos.miniaturas.hilos:2}") int hilos,
+            @Value("${empleados.fotos.miniaturas.cola:500}") int cola) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setQueueCapacity(cola);
+        executor.setThreadNamePrefix("miniaturas-");
+        return executor;
+    }
+}
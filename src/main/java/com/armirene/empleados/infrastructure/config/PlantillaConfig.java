@@ -0,0 +1,29 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.armirene.empleados.domain.PlantillaService;
+
+/**
+ * Tarea que reconstruye el conteo de plantilla después de las operaciones
+ * masivas. Entre una operación masiva y la siguiente ejecución, el reporte puede
+ * estar desactualizado a lo sumo por el intervalo configurado.
+ */
+@Configuration
+public class PlantillaConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler reconstruccionPlantillaScheduler(PlantillaService plantillaService,
+            @Value("${empleados.plantilla.reconstruccion:1m}") Duration intervalo) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("plantilla-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(plantillaService::reconstruirSiPendiente, intervalo);
+        return scheduler;
+    }
+}
@@ -0,0 +1,92 @@
+package com.armirene.empleados.infrastructure.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Réplicas de lectura. Se activa al definir {@code empleados.replicas.urls} con
+ * las URL JDBC de las réplicas, que usan el mismo usuario, clave y driver que
+ * {@code spring.datasource}. El origen de datos de la aplicación (JPA, JDBC y
+ * Flyway) pasa a ser un {@link EnrutamientoDataSource} que lleva las
+ * transacciones {@code readOnly} a las réplicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "empleados.replicas.urls")
+public class ReplicasConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public EnrutamientoDataSource enrutamientoDataSource(HikariDataSource primarioDataSource,
+            DataSourceProperties properties,
+            @Value("${empleados.replicas.urls}") List<String> urls,
+            @Value("${empleados.replicas.tamano-pool:10}") int tamanoPool,
+            @Value("${empleados.replicas.espera-conexion:1s}") Duration esperaConexion,
+            @Value("${empleados.replicas.leer-escrituras:2s}") Duration leerEscrituras) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            String nombre = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(url).build();
+            replica.setPoolName(nombre);
+            replica.setMaximumPoolSize(tamanoPool);
+            replica.setReadOnly(true);
+            // Si la réplica tarda en dar una conexión es mejor leer del primario que esperar.
+            replica.setConnectionTimeout(esperaConexion.toMillis());
+            // Una réplica caída al arrancar no impide iniciar; queda fuera hasta que responda.
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(nombre, replica);
+        }
+        return new EnrutamientoDataSource(primarioDataSource, replicas, leerEscrituras);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler verificacionReplicasScheduler(EnrutamientoDataSource enrutamientoDataSource,
+            @Value("${empleados.replicas.verificacion:10s}") Duration intervalo) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("replicas-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(enrutamientoDataSource::verificarReplicas, intervalo);
+        return scheduler;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(EnrutamientoDataSource enrutamientoDataSource) {
+        return new LazyConnectionDataSourceProxy(enrutamientoDataSource);
+    }
+
+    /**
+     * Con la sesión abierta durante toda la solicitud (open-in-view), Hibernate
+     * conservaría la conexión de la primera transacción para las siguientes; así
+     * una escritura que sigue a una lectura usaría la réplica. Liberar la conexión
+     * al terminar cada transacción hace que cada una se enrute por separado.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer enrutamientoCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -1,13 +1,19 @@
 package com.armirene.empleados.infrastructure.controller;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.armirene.empleados.domain.AreaService;
 import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.util.EtiquetaUtil;
 
 @RestController
 public class AreaController {
@@ -16,7 +22,15 @@ public class AreaController {
     private AreaService areaService;
 
     @GetMapping("/obtenerAreas")
-    public List<Area> obtenerPaises() {
-        return areaService.findAll();
+    public ResponseEntity<List<Area>> obtenerPaises(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String aceptar) {
+        List<Area> areas = areaService.findAll();
+        String etiqueta = EtiquetaUtil.calcular(areas,
+                area -> new Object[] { area.getId(), area.getNombre() });
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(EtiquetaUtil.paraRepresentacion(etiqueta, aceptar))
+                .body(areas);
     }
 }
@@ -0,0 +1,93 @@
+package com.armirene.empleados.infrastructure.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.armirene.empleados.domain.CambioEmpleadoService;
+import com.armirene.empleados.infrastructure.dto.CambioEmpleadoDto;
+import com.armirene.empleados.infrastructure.util.ReceptorCambios;
+
+/**
+ * Cambios de empleados para los sistemas que mantienen una copia (accesos,
+ * nómina). Con {@code Accept: text/event-stream} la conexión queda abierta y
+ * recibe cada cambio como un evento cuyo ID es su posición, de modo que un
+ * {@code EventSource} reconectado retoma la lectura con {@code Last-Event-ID}.
+ * En JSON devuelve los cambios posteriores a {@code desde} y, si no hay y se
+ * indica {@code espera} (en segundos), espera hasta ese tiempo a que lleguen. Sin posición se
+ * empieza por los cambios que ocurran desde ahora.
+ */
+@RestController
+public class CambioEmpleadoController {
+
+    private static final int ESPERA_MAXIMA = 120;
+
+    @Autowired
+    private CambioEmpleadoService cambioEmpleadoService;
+
+    @Value("${empleados.cambios.conexion:30m}")
+    private Duration duracionConexion;
+
+    @GetMapping(value = "/empleados/cambios", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter transmitir(@RequestParam(required = false) Long desde,
+            @RequestParam(defaultValue = "100") int limite,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long ultimoEvento) {
+        SseEmitter emitter = new SseEmitter(duracionConexion.toMillis());
+        ReceptorCambios receptor = cambios -> {
+            try {
+                for (CambioEmpleadoDto cambio : cambios) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(cambio.getPosicion()))
+                            .data(cambio, MediaType.APPLICATION_JSON));
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // El cliente cerró la conexión o venció su duración.
+                return false;
+            }
+        };
+        emitter.onCompletion(() -> cambioEmpleadoService.cancelar(receptor));
+        emitter.onError(error -> cambioEmpleadoService.cancelar(receptor));
+        cambioEmpleadoService.suscribir(resolverPosicion(ultimoEvento != null ? ultimoEvento : desde), limite,
+                receptor);
+        return emitter;
+    }
+
+    @GetMapping("/empleados/cambios")
+    public DeferredResult<List<CambioEmpleadoDto>> consultar(@RequestParam(required = false) Long desde,
+            @RequestParam(defaultValue = "100") int limite,
+            @RequestParam(defaultValue = "0") int espera) {
+        if (espera < 0 || espera > ESPERA_MAXIMA) {
+            throw new IllegalArgumentException("La espera debe estar entre 0 y " + ESPERA_MAXIMA + " segundos.");
+        }
+        long posicion = resolverPosicion(desde);
+        if (espera == 0) {
+            DeferredResult<List<CambioEmpleadoDto>> resultado = new DeferredResult<>();
+            resultado.setResult(cambioEmpleadoService.buscar(posicion, limite));
+            return resultado;
+        }
+        DeferredResult<List<CambioEmpleadoDto>> resultado = new DeferredResult<>(TimeUnit.SECONDS.toMillis(espera), List.of());
+        ReceptorCambios receptor = cambios -> {
+            resultado.setResult(cambios);
+            return false;
+        };
+        resultado.onCompletion(() -> cambioEmpleadoService.cancelar(receptor));
+        cambioEmpleadoService.suscribir(posicion, limite, receptor);
+        return resultado;
+    }
+
+    private long resolverPosicion(Long desde) {
+        return desde != null ? desde : cambioEmpleadoService.obtenerUltimaPosicion();
+    }
+}
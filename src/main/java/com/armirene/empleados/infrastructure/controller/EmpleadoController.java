@@ -1,26 +1,50 @@
 package com.armirene.empleados.infrastructure.controller;
 
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoParcialDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.dto.ImportacionResultadoDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaResultadoDto;
+import com.armirene.empleados.infrastructure.dto.PaginaDto;
 import com.armirene.empleados.infrastructure.entity.Empleado;
 import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.util.EscritorEmpleados;
+import com.armirene.empleados.infrastructure.util.EtiquetaUtil;
+import com.armirene.empleados.infrastructure.util.LectorEmpleados;
+import com.armirene.empleados.infrastructure.util.enums.FormatoArchivo;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 public class EmpleadoController {
@@ -28,8 +52,11 @@ public class EmpleadoController {
     @Autowired
     private EmpleadoService empleadoService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping("/empleados")
-    public Page<Empleado> empleados(
+    public ResponseEntity<PaginaDto<EmpleadoResumenDto>> empleados(
             @RequestParam(required = false) String primerNombre,
             @RequestParam(required = false) String otrosNombres,
             @RequestParam(required = false) String primerApellido,
@@ -40,33 +67,134 @@ public class EmpleadoController {
             @RequestParam(required = false) String correo,
             @RequestParam(required = false) String estado,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "pagina") String modo,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "id") String orden,
+            @RequestParam(required = false) String q,
+            WebRequest request) {
 
-        EmpleadoDto filter = new EmpleadoDto();
-        filter.setPrimerNombre(primerNombre);
-        filter.setOtrosNombres(otrosNombres);
-        filter.setPrimerApellido(primerApellido);
-        filter.setSegundoApellido(segundoApellido);
-        filter.setIdTipoIdentificacion(idTipoIdentificacion);
-        filter.setNumeroIdentificacion(numeroIdentificacion);
-        filter.setIdPais(idPais);
-        filter.setCorreo(correo);
-        filter.setEstado(estado);
-        return empleadoService.findAll(filter, page, size);
+        EmpleadoDto filter = crearFiltro(primerNombre, otrosNombres, primerApellido, segundoApellido,
+                idTipoIdentificacion, numeroIdentificacion, idPais, correo, estado);
+        PaginaDto<EmpleadoResumenDto> pagina;
+        if (q != null && !q.isBlank()) {
+            pagina = empleadoService.buscar(filter, q, size);
+        } else if ("cursor".equals(modo)) {
+            pagina = empleadoService.findAllAfter(filter, after, orden, size);
+        } else if ("slice".equals(modo)) {
+            pagina = empleadoService.findAllSinConteo(filter, page, size);
+        } else if ("estimado".equals(modo)) {
+            pagina = empleadoService.findAllConteoEstimado(filter, page, size);
+        } else {
+            pagina = PaginaDto.de(empleadoService.findAll(filter, page, size));
+        }
+        String etiqueta = EtiquetaUtil.paraRepresentacion(EtiquetaUtil.calcular(pagina),
+                request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(etiqueta)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etiqueta)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(pagina);
+    }
+
+    @GetMapping("/empleados/{id}")
+    public ResponseEntity<Empleado> empleado(@PathVariable Long id, WebRequest request) {
+        Optional<Empleado> empleado = empleadoService.findById(id);
+        if (empleado.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etiqueta = EtiquetaUtil.paraRepresentacion(EtiquetaUtil.calcular(empleado.get()),
+                request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(etiqueta)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etiqueta)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(empleado.get());
+    }
+
+    @GetMapping("/empleados/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarEmpleados(
+            @RequestParam(required = false) String primerNombre,
+            @RequestParam(required = false) String otrosNombres,
+            @RequestParam(required = false) String primerApellido,
+            @RequestParam(required = false) String segundoApellido,
+            @RequestParam(required = false) Integer idTipoIdentificacion,
+            @RequestParam(required = false) String numeroIdentificacion,
+            @RequestParam(required = false) Integer idPais,
+            @RequestParam(required = false) String correo,
+            @RequestParam(required = false) String estado,
+            @RequestParam(defaultValue = "ndjson") String formato,
+            @RequestParam(defaultValue = "false") boolean comprimir) {
+
+        EmpleadoDto filter = crearFiltro(primerNombre, otrosNombres, primerApellido, segundoApellido,
+                idTipoIdentificacion, numeroIdentificacion, idPais, correo, estado);
+        FormatoArchivo formatoArchivo = FormatoArchivo.obtenerPorExtension(formato);
+        String nombreArchivo = "empleados." + formatoArchivo.getExtension() + (comprimir ? ".gz" : "");
+
+        StreamingResponseBody cuerpo = salida -> {
+            OutputStream destino = comprimir ? new GZIPOutputStream(salida, 64 * 1024) : salida;
+            try (EscritorEmpleados escritor = new EscritorEmpleados(destino, formatoArchivo, objectMapper)) {
+                empleadoService.exportar(filter, escritor);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(comprimir ? "application/gzip" : formatoArchivo.getValor()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(nombreArchivo).build().toString())
+                .body(cuerpo);
     }
 
-    @PostMapping("/crearEmpleado")
-    public ResponseEntity<Empleado> crearEmpleado(@Valid @RequestBody EmpleadoDto empleadoDto, byte[] imagenBytes) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(empleadoService.save(empleadoDto, imagenBytes));
+    @PostMapping(value = "/crearEmpleado", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Empleado> crearEmpleado(@Valid @RequestBody EmpleadoDto empleadoDto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(empleadoService.save(empleadoDto, null));
+    }
+
+    @PostMapping(value = "/crearEmpleado", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Empleado> crearEmpleadoConFoto(@Valid @RequestPart("empleado") EmpleadoDto empleadoDto,
+            @RequestPart(name = "foto", required = false) MultipartFile foto) throws IOException {
+        try (InputStream entrada = foto != null && !foto.isEmpty() ? foto.getInputStream() : null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(empleadoService.save(empleadoDto, entrada));
+        }
+    }
+
+    @PostMapping(value = "/importarEmpleados", consumes = { "text/csv", "application/x-ndjson" })
+    public ImportacionResultadoDto importarEmpleados(@RequestHeader(HttpHeaders.CONTENT_TYPE) String tipoContenido,
+            InputStream entrada) throws IOException {
+        return empleadoService.importar(
+                new LectorEmpleados(entrada, FormatoArchivo.obtenerFormato(tipoContenido), objectMapper));
     }
 
     @PutMapping("/editarEmpleado/{id}")
     public ResponseEntity<Optional<Empleado>> editarEmpleado(@PathVariable Long id,
-            @Valid @RequestBody EmpleadoDto empleadoDto) throws Exception {
-        Optional<Empleado> empleadoActualizado = empleadoService.update(id, empleadoDto);
-        return empleadoActualizado.isPresent()
-                ? ResponseEntity.ok(empleadoActualizado)
-                : ResponseEntity.notFound().build();
+            @Valid @RequestBody EmpleadoDto empleadoDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String siCoincide,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String aceptar) throws Exception {
+        Optional<Empleado> empleadoActualizado = empleadoService.update(id, empleadoDto, siCoincide);
+        if (empleadoActualizado.isEmpty()) {
+            return siCoincide != null
+                    ? ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()
+                    : ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(EtiquetaUtil.paraRepresentacion(EtiquetaUtil.calcular(empleadoActualizado.get()), aceptar))
+                .body(empleadoActualizado);
+    }
+
+    @PatchMapping("/editarEmpleado/{id}")
+    public ResponseEntity<Empleado> editarEmpleadoParcial(@PathVariable Long id,
+            @RequestBody EmpleadoParcialDto cambios,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String aceptar) {
+        return empleadoService.actualizarParcial(id, cambios)
+                .map(empleado -> ResponseEntity.ok()
+                        .eTag(EtiquetaUtil.paraRepresentacion(EtiquetaUtil.calcular(empleado), aceptar))
+                        .body(empleado))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/eliminarEmpleado/{id}")
@@ -85,4 +213,34 @@ public class EmpleadoController {
         }
     }
 
+    @PutMapping("/cambiarEstadoEmpleados")
+    public OperacionMasivaResultadoDto cambiarEstadoEmpleados(@RequestBody OperacionMasivaDto operacion) {
+        return empleadoService.cambiarEstado(operacion);
+    }
+
+    @PostMapping("/eliminarEmpleados")
+    public ResponseEntity<?> eliminarEmpleados(@RequestBody OperacionMasivaDto operacion,
+            @RequestParam(required = false, defaultValue = "false") boolean confirmar) {
+        if (!confirmar) {
+            return ResponseEntity.badRequest().body(
+                    "¿Está seguro de que desea eliminar los empleados? Por favor confirmar la eliminación.");
+        }
+        return ResponseEntity.ok(empleadoService.eliminar(operacion));
+    }
+
+    private EmpleadoDto crearFiltro(String primerNombre, String otrosNombres, String primerApellido,
+            String segundoApellido, Integer idTipoIdentificacion, String numeroIdentificacion, Integer idPais,
+            String correo, String estado) {
+        EmpleadoDto filter = new EmpleadoDto();
+        filter.setPrimerNombre(primerNombre);
+        filter.setOtrosNombres(otrosNombres);
+        filter.setPrimerApellido(primerApellido);
+        filter.setSegundoApellido(segundoApellido);
+        filter.setIdTipoIdentificacion(idTipoIdentificacion);
+        filter.setNumeroIdentificacion(numeroIdentificacion);
+        filter.setIdPais(idPais);
+        filter.setCorreo(correo);
+        filter.setEstado(estado);
+        return filter;
+    }
 }
@@ -0,0 +1,73 @@
+package com.armirene.empleados.infrastructure.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.domain.MiniaturaService;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+@RestController
+public class FotoController {
+
+    @Autowired
+    private FotoService fotoService;
+
+    @Autowired
+    private MiniaturaService miniaturaService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @GetMapping("/empleados/{id}/foto")
+    public ResponseEntity<Resource> foto(@PathVariable Long id, @RequestParam(required = false) Integer tamano,
+            WebRequest request) throws IOException {
+        Optional<String> hash = fotoService.obtenerHash(id);
+        if (hash.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<Resource> foto = tamano != null ? miniaturaService.obtener(hash.get(), tamano) : Optional.empty();
+        String etiqueta = foto.isPresent() ? StringUtils.stripFilenameExtension(foto.get().getFilename()) : hash.get();
+        if (request.checkNotModified("\"" + etiqueta + "\"")) {
+            return null;
+        }
+        if (foto.isEmpty()) {
+            foto = fotoService.obtener(hash.get());
+        }
+        if (foto.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etiqueta)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.parseMediaType(fotoService.obtenerTipoContenido(foto.get())))
+                .contentLength(foto.get().contentLength())
+                .body(foto.get());
+    }
+
+    @PutMapping(value = "/empleados/{id}/foto", consumes = { "image/png", "image/jpeg", "image/gif", "image/webp",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE })
+    public ResponseEntity<Empleado> subirFoto(@PathVariable Long id, InputStream foto) {
+        if (empleadoService.findById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return empleadoService.asignarFoto(id, fotoService.guardar(foto))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,13 +1,19 @@
 package com.armirene.empleados.infrastructure.controller;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.armirene.empleados.infrastructure.entity.Pais;
 import com.armirene.empleados.domain.PaisService;
+import com.armirene.empleados.infrastructure.util.EtiquetaUtil;
 
 @RestController
 public class PaisController {
@@ -16,8 +22,16 @@ public class PaisController {
     private PaisService paisService;
 
     @GetMapping("/obtenerPaises")
-    public List<Pais> obtenerPaises() {
-        return paisService.findAll();
+    public ResponseEntity<List<Pais>> obtenerPaises(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String aceptar) {
+        List<Pais> paises = paisService.findAll();
+        String etiqueta = EtiquetaUtil.calcular(paises,
+                pais -> new Object[] { pais.getId(), pais.getCodigo(), pais.getNombre() });
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(EtiquetaUtil.paraRepresentacion(etiqueta, aceptar))
+                .body(paises);
     }
 
 }
@@ -0,0 +1,33 @@
+package com.armirene.empleados.infrastructure.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.armirene.empleados.domain.PlantillaService;
+import com.armirene.empleados.infrastructure.dto.ConteoPlantillaDto;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+
+@RestController
+public class PlantillaController {
+
+    @Autowired
+    private PlantillaService plantillaService;
+
+    @GetMapping("/empleados/plantilla")
+    public List<ConteoPlantillaDto> plantilla(
+            @RequestParam(defaultValue = "pais") List<String> agrupar,
+            @RequestParam(required = false) Integer idPais,
+            @RequestParam(required = false) Integer idArea,
+            @RequestParam(required = false) String estado) {
+        List<DimensionPlantilla> dimensiones = agrupar.stream()
+                .filter(valor -> !valor.isBlank())
+                .map(DimensionPlantilla::obtenerDimension)
+                .distinct()
+                .toList();
+        return plantillaService.contar(dimensiones, idPais, idArea, estado);
+    }
+}
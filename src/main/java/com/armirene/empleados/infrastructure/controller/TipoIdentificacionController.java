@@ -1,13 +1,19 @@
 package com.armirene.empleados.infrastructure.controller;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
 import com.armirene.empleados.domain.TipoIdentificacionService;
+import com.armirene.empleados.infrastructure.util.EtiquetaUtil;
 
 @RestController
 public class TipoIdentificacionController {
@@ -16,7 +22,15 @@ public class TipoIdentificacionController {
     private TipoIdentificacionService tipoIdentificacionService;
 
     @GetMapping("/obtenerTiposIdentificacion")
-    public List<TipoIdentificacion> obtenerTiposIdentificacion() {
-        return tipoIdentificacionService.findAll();
+    public ResponseEntity<List<TipoIdentificacion>> obtenerTiposIdentificacion(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String aceptar) {
+        List<TipoIdentificacion> tiposIdentificacion = tipoIdentificacionService.findAll();
+        String etiqueta = EtiquetaUtil.calcular(tiposIdentificacion,
+                tipo -> new Object[] { tipo.getId(), tipo.getAbrev(), tipo.getNombre() });
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(EtiquetaUtil.paraRepresentacion(etiqueta, aceptar))
+                .body(tiposIdentificacion);
     }
 }
@@ -0,0 +1,32 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.sql.Timestamp;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambio publicado de un empleado. Solo identifica al empleado y su versión;
+ * quien necesite los datos los consulta en {@code GET /empleados/{id}}, salvo en
+ * las eliminaciones. La posición es la que se envía en {@code desde} o en
+ * {@code Last-Event-ID} para retomar la lectura.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CambioEmpleadoDto {
+
+    private long posicion;
+
+    private Long idEmpleado;
+
+    private String tipo;
+
+    private Long version;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private Timestamp fecha;
+}
@@ -0,0 +1,28 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.time.YearMonth;
+
+import lombok.Data;
+
+/**
+ * Fila del reporte de plantilla: la cantidad de empleados de un grupo. Solo se
+ * llenan las dimensiones por las que se agrupó; las demás quedan en
+ * {@code null}.
+ */
+@Data
+public class ConteoPlantillaDto {
+
+    private Integer idPais;
+
+    private String pais;
+
+    private Integer idArea;
+
+    private String area;
+
+    private String estado;
+
+    private YearMonth mesIngreso;
+
+    private long cantidad;
+}
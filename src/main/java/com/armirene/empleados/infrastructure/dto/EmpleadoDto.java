@@ -3,37 +3,35 @@ package com.armirene.empleados.infrastructure.dto;
 import java.sql.Timestamp;
 import java.util.Date;
 
+import com.armirene.empleados.infrastructure.util.validacion.Identificacion;
+import com.armirene.empleados.infrastructure.util.validacion.SoloMayusculas;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
-import jakarta.persistence.Column;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 @Data
 public class EmpleadoDto {
 
     @NotBlank(message = "El campo primerNombre es obligatorio")
-    @Pattern(regexp = "^[A-Z ]+$", message = "El campo solo debe contener letras mayúsculas sin acentos ni Ñ")
+    @SoloMayusculas
     private String primerNombre;
 
     @NotBlank(message = "El campo otrosNombres es obligatorio")
-    @Pattern(regexp = "^[A-Z ]+$", message = "El campo solo debe contener letras mayúsculas sin acentos ni Ñ")
+    @SoloMayusculas
     private String otrosNombres;
 
     @NotBlank(message = "El campo primerApellido es obligatorio")
-    @Pattern(regexp = "^[A-Z ]+$", message = "El campo solo debe contener letras mayúsculas sin acentos ni Ñ")
+    @SoloMayusculas
     private String primerApellido;
 
     @NotBlank(message = "El campo segundoApellido es obligatorio")
-    @Pattern(regexp = "^[A-Z ]+$", message = "El campo solo debe contener letras mayúsculas sin acentos ni Ñ")
+    @SoloMayusculas
     private String segundoApellido;
 
-    @Column(unique = true)
     private String correo;
 
-    @Pattern(regexp = "^[a-zA-Z0-9-]+$", message = "No se permiten caracteres especiales.")
-    @Column(unique = true)
+    @Identificacion
     private String numeroIdentificacion;
 
     private String estado;
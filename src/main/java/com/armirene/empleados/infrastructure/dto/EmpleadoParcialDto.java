@@ -0,0 +1,33 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import lombok.Data;
+
+/**
+ * Cambios parciales de un empleado. Los campos nulos o ausentes no se modifican
+ * y {@code otrosNombres} vacío borra el valor. {@code version} es la versión del
+ * empleado que leyó el cliente y es obligatoria: si otro usuario lo modificó
+ * después, los cambios se rechazan.
+ */
+@Data
+public class EmpleadoParcialDto {
+
+    private String primerNombre;
+
+    private String otrosNombres;
+
+    private String primerApellido;
+
+    private String segundoApellido;
+
+    private String numeroIdentificacion;
+
+    private String estado;
+
+    private Integer idTipoIdentificacion;
+
+    private Integer idPais;
+
+    private Integer idArea;
+
+    private Long version;
+}
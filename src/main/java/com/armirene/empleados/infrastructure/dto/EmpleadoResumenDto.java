@@ -0,0 +1,77 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fila del listado de empleados. Solo contiene las columnas que muestra la
+ * grilla y los nombres de los catálogos, y se construye directamente en la
+ * consulta sin cargar las entidades.
+ */
+@Data
+@NoArgsConstructor
+public class EmpleadoResumenDto {
+
+    private Long id;
+
+    private String primerNombre;
+
+    private String otrosNombres;
+
+    private String primerApellido;
+
+    private String segundoApellido;
+
+    private String tipoIdentificacion;
+
+    private String numeroIdentificacion;
+
+    private String pais;
+
+    private String area;
+
+    private String correo;
+
+    private String estado;
+
+    private Date fechaIngreso;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private Timestamp fechaRegistro;
+
+    private String fotoUrl;
+
+    /**
+     * Versión del empleado, solo para la etiqueta (ETag) del listado; no se
+     * incluye en las respuestas ni en la exportación.
+     */
+    @JsonIgnore
+    private Long version;
+
+    public EmpleadoResumenDto(Long id, String primerNombre, String otrosNombres, String primerApellido,
+            String segundoApellido, String tipoIdentificacion, String numeroIdentificacion, String pais, String area,
+            String correo, String estado, Date fechaIngreso, Timestamp fechaRegistro, String fotoHash,
+            Long version) {
+        this.id = id;
+        this.primerNombre = primerNombre;
+        this.otrosNombres = otrosNombres;
+        this.primerApellido = primerApellido;
+        this.segundoApellido = segundoApellido;
+        this.tipoIdentificacion = tipoIdentificacion;
+        this.numeroIdentificacion = numeroIdentificacion;
+        this.pais = pais;
+        this.area = area;
+        this.correo = correo;
+        this.estado = estado;
+        this.fechaIngreso = fechaIngreso;
+        this.fechaRegistro = fechaRegistro;
+        this.fotoUrl = fotoHash != null ? "/empleados/" + id + "/foto" : null;
+        this.version = version;
+    }
+}
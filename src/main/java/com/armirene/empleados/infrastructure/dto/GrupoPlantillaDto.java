@@ -0,0 +1,61 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.time.LocalDate;
+
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.util.FechaUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Combinación de país, área, estado y mes de ingreso en la que se cuenta a un
+ * empleado en la tabla {@code conteo_plantilla}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GrupoPlantillaDto {
+
+    private static final String SEPARADOR = "|";
+
+    private Integer idPais;
+
+    private Integer idArea;
+
+    private String estado;
+
+    private LocalDate mesIngreso;
+
+    /**
+     * Obtiene el grupo al que pertenece un empleado según sus valores actuales.
+     *
+     * @param empleado el empleado.
+     * @return el grupo del empleado.
+     */
+    public static GrupoPlantillaDto de(Empleado empleado) {
+        return new GrupoPlantillaDto(
+                empleado.getPais() != null ? empleado.getPais().getId() : null,
+                empleado.getArea() != null ? empleado.getArea().getId() : null,
+                empleado.getEstado(),
+                FechaUtils.obtenerInicioDeMes(empleado.getFechaIngreso()));
+    }
+
+    /**
+     * Construye la clave primaria del grupo, con el mismo formato que usa la
+     * migración que llena la tabla: {@code idPais|idArea|aaaa-mm-01|estado}, con
+     * cadena vacía en las dimensiones nulas. El estado va al final para que un
+     * separador dentro de él no cambie la posición de las demás dimensiones.
+     *
+     * @return la clave del grupo.
+     */
+    public String getClave() {
+        return texto(idPais) + SEPARADOR + texto(idArea) + SEPARADOR + texto(mesIngreso) + SEPARADOR
+                + texto(estado);
+    }
+
+    private static String texto(Object valor) {
+        return valor != null ? valor.toString() : "";
+    }
+}
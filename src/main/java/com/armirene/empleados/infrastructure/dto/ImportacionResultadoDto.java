@@ -0,0 +1,51 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Resultado de una importación masiva de empleados. El detalle de errores se
+ * limita a los primeros {@value #MAXIMO_ERRORES_DETALLADOS}; {@code totalErrores}
+ * siempre cuenta todos.
+ */
+@Data
+public class ImportacionResultadoDto {
+
+    private static final int MAXIMO_ERRORES_DETALLADOS = 1000;
+
+    private long lineasProcesadas;
+
+    private long importados;
+
+    private long totalErrores;
+
+    private List<ErrorLinea> errores = new ArrayList<>();
+
+    private long duracionMs;
+
+    private double filasPorSegundo;
+
+    public void agregarError(long linea, String mensaje) {
+        totalErrores++;
+        if (errores.size() < MAXIMO_ERRORES_DETALLADOS) {
+            errores.add(new ErrorLinea(linea, mensaje));
+        }
+    }
+
+    public void calcularRendimiento(long duracionNanos) {
+        duracionMs = duracionNanos / 1_000_000;
+        filasPorSegundo = duracionNanos > 0 ? importados * 1_000_000_000d / duracionNanos : 0;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ErrorLinea {
+
+        private long linea;
+
+        private String mensaje;
+    }
+}
@@ -0,0 +1,20 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Empleados sobre los que se aplica una operación masiva: una lista de IDs o un
+ * filtro con los mismos criterios del listado, pero no ambos. {@code estado}
+ * solo se usa en el cambio de estado.
+ */
+@Data
+public class OperacionMasivaDto {
+
+    private List<Long> ids;
+
+    private EmpleadoDto filtro;
+
+    private String estado;
+}
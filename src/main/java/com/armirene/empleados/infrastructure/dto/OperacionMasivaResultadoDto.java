@@ -0,0 +1,25 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.sql.Timestamp;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.Data;
+
+/**
+ * Resultado de una operación masiva sobre empleados. En el cambio de estado,
+ * {@code fechaInicio} es la fecha de edición registrada en las filas afectadas.
+ */
+@Data
+public class OperacionMasivaResultadoDto {
+
+    private long afectados;
+
+    private int sentencias;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private Timestamp fechaInicio;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private Timestamp fechaFin;
+}
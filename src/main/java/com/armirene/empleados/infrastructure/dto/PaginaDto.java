@@ -0,0 +1,62 @@
+package com.armirene.empleados.infrastructure.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sobre de respuesta de los listados paginados. Reemplaza la serialización de
+ * {@link Page}, cuyo formato depende de la versión de Spring Data.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginaDto<T> {
+
+    private List<T> contenido;
+
+    private Integer pagina;
+
+    private Integer tamano;
+
+    private Long totalElementos;
+
+    private Integer totalPaginas;
+
+    private String siguienteCursor;
+
+    private Boolean haySiguiente;
+
+    private Boolean totalEstimado;
+
+    public static <T> PaginaDto<T> de(Page<T> page) {
+        return new PaginaDto<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(),
+                page.getTotalPages(), null, page.hasNext(), null);
+    }
+
+    public static <T> PaginaDto<T> deCursor(List<T> contenido, int tamano, String siguienteCursor) {
+        return new PaginaDto<>(contenido, null, tamano, null, null, siguienteCursor, siguienteCursor != null, null);
+    }
+
+    public static <T> PaginaDto<T> deSlice(Slice<T> slice) {
+        return new PaginaDto<>(slice.getContent(), slice.getNumber(), slice.getSize(), null, null, null,
+                slice.hasNext(), null);
+    }
+
+    public static <T> PaginaDto<T> deEstimado(Slice<T> slice, long totalEstimado) {
+        // El total puede estar desactualizado; nunca se informa menos de lo ya recorrido.
+        long total = Math.max(totalEstimado,
+                slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0));
+        int totalPaginas = slice.getSize() > 0 ? (int) Math.ceil((double) total / slice.getSize()) : 1;
+        return new PaginaDto<>(slice.getContent(), slice.getNumber(), slice.getSize(), total, totalPaginas, null,
+                slice.hasNext(), true);
+    }
+}
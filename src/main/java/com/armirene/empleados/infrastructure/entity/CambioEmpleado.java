@@ -0,0 +1,41 @@
+package com.armirene.empleados.infrastructure.entity;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Cambio de un empleado pendiente de publicar o ya publicado. La posición queda
+ * en {@code null} hasta que se publica.
+ */
+@Data
+@Entity
+@Table(name = "cambio_empleado")
+public class CambioEmpleado implements Serializable {
+
+    private static final long serialVersionUID = -2870451193L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long posicion;
+
+    @Column(name = "id_empleado", nullable = false)
+    private Long idEmpleado;
+
+    @Column(length = 20, nullable = false)
+    private String tipo;
+
+    private Long version;
+
+    @Column(nullable = false)
+    private Timestamp fecha;
+}
@@ -0,0 +1,43 @@
+package com.armirene.empleados.infrastructure.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Cantidad de empleados de una combinación de país, área, estado y mes de
+ * ingreso. La clave es {@link com.armirene.empleados.infrastructure.dto.GrupoPlantillaDto#getClave()}
+ * y las dimensiones se guardan también por separado para poder agrupar por
+ * cualquiera de ellas.
+ */
+@Data
+@Entity
+@Table(name = "conteo_plantilla")
+public class ConteoPlantilla implements Serializable {
+
+    private static final long serialVersionUID = -5127730396L;
+
+    @Id
+    @Column(length = 300)
+    private String clave;
+
+    @Column(name = "id_pais")
+    private Integer idPais;
+
+    @Column(name = "id_area")
+    private Integer idArea;
+
+    private String estado;
+
+    @Column(name = "mes_ingreso")
+    private LocalDate mesIngreso;
+
+    @Column(nullable = false)
+    private Long cantidad;
+
+}
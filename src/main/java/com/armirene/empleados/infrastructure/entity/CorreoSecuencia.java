@@ -0,0 +1,30 @@
+package com.armirene.empleados.infrastructure.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Contador por prefijo de correo ({@code nombre.apellido@dominio}). Guarda el
+ * último sufijo asignado: 0 corresponde al correo sin sufijo y n a
+ * {@code nombre.apellido.n@dominio}.
+ */
+@Data
+@Entity
+@Table(name = "correo_secuencia")
+public class CorreoSecuencia implements Serializable {
+
+    private static final long serialVersionUID = -3841907265L;
+
+    @Id
+    @Column(length = 300)
+    private String prefijo;
+
+    @Column(nullable = false)
+    private Integer ultimo;
+
+}
@@ -4,28 +4,42 @@ import java.io.Serializable;
 import java.util.Date;
 import java.sql.Timestamp;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "empleado")
+@DynamicUpdate
+@EntityListeners(EmpleadoBusquedaListener.class)
 @Table(name = "empleado")
 public class Empleado implements Serializable {
 
     private static final long serialVersionUID = -4315232028L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "empleado_seq")
+    @SequenceGenerator(name = "empleado_seq", sequenceName = "empleado_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "primer_nombre", length = 20)
@@ -59,9 +73,14 @@ public class Empleado implements Serializable {
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     private Timestamp fechaEdicion;
 
-    @Column(name = "foto", columnDefinition = "TEXT")
-    @Lob
-    private String foto;
+    @JsonIgnore
+    @Column(name = "foto_hash", length = 64)
+    private String fotoHash;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 
     @ManyToOne
     @JoinColumn(name = "id_tipo_identificacion")
@@ -75,4 +94,8 @@ public class Empleado implements Serializable {
     @JoinColumn(name = "id_area")
     private Area area;
 
+    public String getFotoUrl() {
+        return fotoHash != null && id != null ? "/empleados/" + id + "/foto" : null;
+    }
+
 }
@@ -0,0 +1,50 @@
+package com.armirene.empleados.infrastructure.entity;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.armirene.empleados.domain.BusquedaEmpleadoService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Mantiene al día el índice de búsqueda por texto con cada empleado que se
+ * inserta, modifica o elimina, sin importar desde qué servicio se haga. Los
+ * cambios se aplican al confirmarse la transacción, así una transacción
+ * revertida no deja empleados inexistentes en el índice.
+ */
+public class EmpleadoBusquedaListener {
+
+    @Autowired
+    @Lazy
+    private BusquedaEmpleadoService busquedaEmpleadoService;
+
+    @PostPersist
+    @PostUpdate
+    public void indexar(Empleado empleado) {
+        alConfirmar(() -> busquedaEmpleadoService.indexar(empleado));
+    }
+
+    @PostRemove
+    public void eliminar(Empleado empleado) {
+        Long id = empleado.getId();
+        alConfirmar(() -> busquedaEmpleadoService.eliminar(id));
+    }
+
+    private void alConfirmar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+}
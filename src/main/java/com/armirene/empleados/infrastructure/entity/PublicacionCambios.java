@@ -0,0 +1,29 @@
+package com.armirene.empleados.infrastructure.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Fila única con la última posición asignada a un cambio de empleado. Quien
+ * publica la bloquea, de modo que una sola instancia asigna posiciones a la vez.
+ */
+@Data
+@Entity
+@Table(name = "publicacion_cambios")
+public class PublicacionCambios implements Serializable {
+
+    private static final long serialVersionUID = -6031842577L;
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "ultima_posicion", nullable = false)
+    private Long ultimaPosicion;
+}
@@ -1,28 +1,116 @@
 package com.armirene.empleados.infrastructure.exception;
 
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
 public class EmpleadoException {
 
-    public static class PrimerApellidoException extends RuntimeException {
+    private static final String LETRAS_MAYUSCULAS = "solo permite caracteres de la A a la Z, mayúscula, sin acentos ni Ñ y su longitud máxima es de 20 letras.";
+
+    /**
+     * Error de validación de un dato del empleado. Los mensajes son fijos, así
+     * que cada error se crea una sola vez, sin traza de pila, y lleva ya armado el
+     * cuerpo de la respuesta HTTP.
+     */
+    public static class ValidacionException extends RuntimeException {
+
+        private final transient Map<String, String> cuerpo;
+
+        protected ValidacionException(String message) {
+            super(message, null, false, false);
+            this.cuerpo = Map.of("statusError", HttpStatus.BAD_REQUEST.toString(), "message", message);
+        }
+
+        public Map<String, String> getCuerpo() {
+            return cuerpo;
+        }
+    }
+
+    public static class PrimerApellidoException extends ValidacionException {
+
+        public static final PrimerApellidoException REQUERIDO = new PrimerApellidoException(
+                "El primer apellido es requerido.");
+
+        public static final PrimerApellidoException INVALIDO = new PrimerApellidoException(
+                "El primer apellido " + LETRAS_MAYUSCULAS);
+
         public PrimerApellidoException(String message) {
             super(message);
         }
     }
 
-    public static class SegundoApellidoException extends RuntimeException {
+    public static class SegundoApellidoException extends ValidacionException {
+
+        public static final SegundoApellidoException REQUERIDO = new SegundoApellidoException(
+                "El segundo apellido es requerido.");
+
+        public static final SegundoApellidoException INVALIDO = new SegundoApellidoException(
+                "El segundo apellido " + LETRAS_MAYUSCULAS);
+
         public SegundoApellidoException(String message) {
             super(message);
         }
     }
 
-    public static class PrimerNombreException extends RuntimeException {
+    public static class PrimerNombreException extends ValidacionException {
+
+        public static final PrimerNombreException REQUERIDO = new PrimerNombreException(
+                "El primer nombre es requerido.");
+
+        public static final PrimerNombreException INVALIDO = new PrimerNombreException(
+                "El primer nombre " + LETRAS_MAYUSCULAS);
+
         public PrimerNombreException(String message) {
             super(message);
         }
     }
 
-    public static class OtrosNombresException extends RuntimeException {
+    public static class OtrosNombresException extends ValidacionException {
+
+        public static final OtrosNombresException LONGITUD = new OtrosNombresException(
+                "Los otros nombres deben tener una longitud máxima de 50 letras.");
+
+        public static final OtrosNombresException INVALIDO = new OtrosNombresException(
+                "Los otros nombres solo permiten caracteres de la A a la Z, mayúscula, sin acentos ni Ñ, y el carácter espacio entre nombres.");
+
         public OtrosNombresException(String message) {
             super(message);
         }
     }
+
+    /**
+     * La foto recibida supera el tamaño máximo configurado en
+     * {@code empleados.fotos.tamano-maximo}.
+     */
+    public static class FotoTamanoException extends RuntimeException {
+
+        public FotoTamanoException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * La posición desde la que se piden los cambios de empleados es anterior a
+     * los cambios que se conservan ({@code empleados.cambios.retencion}); el
+     * consumidor debe volver a leer el listado completo.
+     */
+    public static class CambiosDepuradosException extends RuntimeException {
+
+        public CambiosDepuradosException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * El encabezado {@code If-Match} de una edición no coincide con la etiqueta
+     * actual del empleado: otro usuario lo modificó después de que el cliente lo
+     * consultó.
+     */
+    public static class PrecondicionException extends RuntimeException {
+
+        public PrecondicionException(String message) {
+            super(message);
+        }
+    }
 }
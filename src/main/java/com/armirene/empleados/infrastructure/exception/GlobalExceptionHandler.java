@@ -3,40 +3,91 @@ package com.armirene.empleados.infrastructure.exception;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.armirene.empleados.infrastructure.util.ValidacionUtil;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String MENSAJE_CAMPO = "El campo '%s' solo permite caracteres de la A a la Z, mayúsculas, sin acentos ni Ñ y su longitud máxima es de %d letras";
+
+    private static final Map<String, String> MENSAJES_CAMPO = new ConcurrentHashMap<>(Map.of(
+            "primerNombre", String.format(MENSAJE_CAMPO, "primerNombre", ValidacionUtil.LONGITUD_MAXIMA_NOMBRE),
+            "otrosNombres", String.format(MENSAJE_CAMPO, "otrosNombres", ValidacionUtil.LONGITUD_MAXIMA_OTROS_NOMBRES),
+            "primerApellido", String.format(MENSAJE_CAMPO, "primerApellido", ValidacionUtil.LONGITUD_MAXIMA_NOMBRE),
+            "segundoApellido", String.format(MENSAJE_CAMPO, "segundoApellido", ValidacionUtil.LONGITUD_MAXIMA_NOMBRE)));
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, Object> errors = new HashMap<>();
         errors.put("statusError", HttpStatus.BAD_REQUEST.toString());
 
-        Map<String, Integer> maxLengths = new HashMap<>();
-        maxLengths.put("primerNombre", 20);
-        maxLengths.put("otrosNombres", 50);
-        maxLengths.put("primerApellido", 20);
-        maxLengths.put("segundoApellido", 20);
-
         for (FieldError error : ex.getBindingResult().getFieldErrors()) {
             String field = error.getField();
-            Integer maxLength = maxLengths.getOrDefault(field, 20);
-            String message = String.format(
-                    "El campo '%s' solo permite caracteres de la A a la Z, mayúsculas, sin acentos ni Ñ y su longitud máxima es de %d letras",
-                    field, maxLength);
-            errors.put(field, message);
+            errors.put(field, MENSAJES_CAMPO.computeIfAbsent(field,
+                    campo -> String.format(MENSAJE_CAMPO, campo, ValidacionUtil.LONGITUD_MAXIMA_NOMBRE)));
         }
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
     }
 
+    @ExceptionHandler(EmpleadoException.ValidacionException.class)
+    public ResponseEntity<Map<String, String>> handleValidacionEmpleado(EmpleadoException.ValidacionException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getCuerpo());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("statusError", HttpStatus.BAD_REQUEST.toString());
+        errorResponse.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler({ EmpleadoException.FotoTamanoException.class, MaxUploadSizeExceededException.class })
+    public ResponseEntity<Map<String, String>> handleFotoTamano(Exception ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("statusError", HttpStatus.PAYLOAD_TOO_LARGE.toString());
+        errorResponse.put("message", ex instanceof EmpleadoException.FotoTamanoException ? ex.getMessage()
+                : "La foto supera el tamaño máximo permitido.");
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+
+    @ExceptionHandler(EmpleadoException.CambiosDepuradosException.class)
+    public ResponseEntity<Map<String, String>> handleCambiosDepurados(EmpleadoException.CambiosDepuradosException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("statusError", HttpStatus.GONE.toString());
+        errorResponse.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
+    @ExceptionHandler(EmpleadoException.PrecondicionException.class)
+    public ResponseEntity<Map<String, String>> handlePrecondicion(EmpleadoException.PrecondicionException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("statusError", HttpStatus.PRECONDITION_FAILED.toString());
+        errorResponse.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLocking(ObjectOptimisticLockingFailureException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("statusError", HttpStatus.CONFLICT.toString());
+        errorResponse.put("message",
+                "El empleado fue modificado por otro usuario. Consulte la versión actual e intente de nuevo.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<Map<String, String>> handleUniqueConstraintViolation(DataIntegrityViolationException ex) {
         Map<String, String> errorResponse = new HashMap<>();
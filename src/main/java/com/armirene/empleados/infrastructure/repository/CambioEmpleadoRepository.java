@@ -0,0 +1,31 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.armirene.empleados.infrastructure.dto.CambioEmpleadoDto;
+import com.armirene.empleados.infrastructure.entity.CambioEmpleado;
+
+@Repository
+public interface CambioEmpleadoRepository extends JpaRepository<CambioEmpleado, Long>,
+        CambioEmpleadoRepositoryCustom {
+
+    @Query("SELECT c FROM CambioEmpleado c WHERE c.posicion IS NULL ORDER BY c.id")
+    List<CambioEmpleado> buscarPendientes(Pageable pageable);
+
+    @Query("SELECT new com.armirene.empleados.infrastructure.dto.CambioEmpleadoDto(c.posicion, c.idEmpleado, "
+            + "c.tipo, c.version, c.fecha) FROM CambioEmpleado c WHERE c.posicion > :desde ORDER BY c.posicion")
+    List<CambioEmpleadoDto> buscarDesde(@Param("desde") long desde, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CambioEmpleado c WHERE c.posicion <= "
+            + "(SELECT max(a.posicion) FROM CambioEmpleado a WHERE a.fecha < :limite)")
+    int depurar(@Param("limite") Timestamp limite);
+}
@@ -0,0 +1,13 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.sql.Timestamp;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.util.enums.TipoCambio;
+
+public interface CambioEmpleadoRepositoryCustom {
+
+    int registrar(Specification<Empleado> specification, TipoCambio tipo, long incrementoVersion, Timestamp fecha);
+}
@@ -0,0 +1,65 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.sql.Timestamp;
+
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.armirene.empleados.infrastructure.entity.CambioEmpleado;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.util.enums.TipoCambio;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+/**
+ * Registro de cambios de varios empleados a la vez.
+ */
+public class CambioEmpleadoRepositoryImpl implements CambioEmpleadoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Registra un cambio por cada empleado que cumple el filtro con una sola
+     * sentencia {@code INSERT ... SELECT}, sin cargar los empleados.
+     *
+     * @param specification     filtros de los empleados.
+     * @param tipo              el tipo de cambio.
+     * @param incrementoVersion lo que se suma a la versión actual de cada
+     *                          empleado; 1 si el registro precede a una sentencia
+     *                          {@code UPDATE} que incrementa la versión.
+     * @param fecha             la fecha del cambio.
+     * @return la cantidad de cambios registrados.
+     */
+    @Override
+    public int registrar(Specification<Empleado> specification, TipoCambio tipo, long incrementoVersion,
+            Timestamp fecha) {
+        HibernateCriteriaBuilder criteriaBuilder = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        JpaCriteriaInsertSelect<CambioEmpleado> insert = criteriaBuilder.createCriteriaInsertSelect(
+                CambioEmpleado.class);
+        JpaRoot<CambioEmpleado> destino = insert.getTarget();
+        insert.setInsertionTargetPaths(destino.get("idEmpleado"), destino.get("tipo"), destino.get("version"),
+                destino.get("fecha"));
+
+        JpaParameterExpression<String> tipoParametro = criteriaBuilder.parameter(String.class, "tipo");
+        JpaParameterExpression<Timestamp> fechaParametro = criteriaBuilder.parameter(Timestamp.class, "fecha");
+        JpaCriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        JpaRoot<Empleado> root = query.from(Empleado.class);
+        query.multiselect(root.get("id"), tipoParametro,
+                criteriaBuilder.sum(root.<Long>get("version"), incrementoVersion), fechaParametro)
+                .where(specification.toPredicate(root, query, criteriaBuilder));
+        insert.select(query);
+
+        return entityManager.unwrap(Session.class).createMutationQuery(insert)
+                .setParameter(tipoParametro, tipo.getValor())
+                .setParameter(fechaParametro, fecha)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,27 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.armirene.empleados.infrastructure.entity.ConteoPlantilla;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ConteoPlantillaRepository extends JpaRepository<ConteoPlantilla, String>,
+        ConteoPlantillaRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE ConteoPlantilla c SET c.cantidad = c.cantidad + :cantidad WHERE c.clave = :clave")
+    int incrementar(@Param("clave") String clave, @Param("cantidad") long cantidad);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ConteoPlantilla c")
+    List<ConteoPlantilla> bloquearTodos();
+}
@@ -0,0 +1,15 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.util.List;
+
+import com.armirene.empleados.infrastructure.dto.ConteoPlantillaDto;
+import com.armirene.empleados.infrastructure.dto.GrupoPlantillaDto;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+
+public interface ConteoPlantillaRepositoryCustom {
+
+    List<ConteoPlantillaDto> agrupar(List<DimensionPlantilla> dimensiones, Integer idPais, Integer idArea,
+            String estado);
+
+    int insertarSiNoExiste(GrupoPlantillaDto grupo);
+}
@@ -0,0 +1,122 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+
+import com.armirene.empleados.infrastructure.dto.ConteoPlantillaDto;
+import com.armirene.empleados.infrastructure.dto.GrupoPlantillaDto;
+import com.armirene.empleados.infrastructure.entity.ConteoPlantilla;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Consultas del reporte de plantilla sobre la tabla de conteos.
+ */
+public class ConteoPlantillaRepositoryImpl implements ConteoPlantillaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Suma los conteos agrupando por las dimensiones indicadas. La consulta lee
+     * la tabla de conteos, cuyo tamaño depende de la cantidad de combinaciones de
+     * país, área, estado y mes, no de la cantidad de empleados. Los grupos que
+     * quedaron en cero se omiten.
+     *
+     * @param dimensiones las dimensiones del agrupamiento, en el orden en que se
+     *                    ordenan las filas; sin dimensiones se obtiene el total.
+     * @param idPais      filtro opcional por país.
+     * @param idArea      filtro opcional por área.
+     * @param estado      filtro opcional por estado.
+     * @return un conteo por grupo, solo con las dimensiones del agrupamiento.
+     */
+    @Override
+    public List<ConteoPlantillaDto> agrupar(List<DimensionPlantilla> dimensiones, Integer idPais, Integer idArea,
+            String estado) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<ConteoPlantilla> root = query.from(ConteoPlantilla.class);
+
+        List<Expression<?>> grupos = new ArrayList<>(dimensiones.size());
+        List<Order> orden = new ArrayList<>(dimensiones.size());
+        for (DimensionPlantilla dimension : dimensiones) {
+            Expression<?> grupo = root.get(dimension.getAtributo());
+            grupos.add(grupo);
+            orden.add(criteriaBuilder.asc(grupo));
+        }
+        Expression<Long> cantidad = criteriaBuilder.sum(root.<Long>get("cantidad"));
+        List<Selection<?>> columnas = new ArrayList<>(grupos);
+        columnas.add(cantidad);
+
+        List<Predicate> filtros = new ArrayList<>();
+        if (idPais != null) {
+            filtros.add(criteriaBuilder.equal(root.get("idPais"), idPais));
+        }
+        if (idArea != null) {
+            filtros.add(criteriaBuilder.equal(root.get("idArea"), idArea));
+        }
+        if (estado != null) {
+            filtros.add(criteriaBuilder.equal(root.get("estado"), estado));
+        }
+
+        query.multiselect(columnas)
+                .where(filtros.toArray(new Predicate[0]))
+                .groupBy(grupos)
+                .having(criteriaBuilder.gt(cantidad, 0L))
+                .orderBy(orden);
+
+        List<ConteoPlantillaDto> conteos = new ArrayList<>();
+        for (Tuple fila : entityManager.createQuery(query).getResultList()) {
+            ConteoPlantillaDto conteo = new ConteoPlantillaDto();
+            for (int i = 0; i < dimensiones.size(); i++) {
+                Object valor = fila.get(i);
+                switch (dimensiones.get(i)) {
+                    case PAIS -> conteo.setIdPais((Integer) valor);
+                    case AREA -> conteo.setIdArea((Integer) valor);
+                    case ESTADO -> conteo.setEstado((String) valor);
+                    case MES -> conteo.setMesIngreso(valor != null ? YearMonth.from((LocalDate) valor) : null);
+                }
+            }
+            conteo.setCantidad(fila.get(dimensiones.size(), Long.class));
+            conteos.add(conteo);
+        }
+        return conteos;
+    }
+
+    /**
+     * Crea en cero la fila de un grupo si todavía no existe. En PostgreSQL la
+     * sentencia lleva {@code ON CONFLICT DO NOTHING}; en H2, donde un error no
+     * invalida la transacción, Hibernate descarta el de clave duplicada. En ambos
+     * casos una fila que otra transacción creó primero no revierte la actual.
+     *
+     * @param grupo el grupo a crear.
+     * @return 1 si se creó la fila, 0 si ya existía.
+     */
+    @Override
+    public int insertarSiNoExiste(GrupoPlantillaDto grupo) {
+        return entityManager.unwrap(Session.class)
+                .createMutationQuery("INSERT INTO ConteoPlantilla (clave, idPais, idArea, estado, mesIngreso, "
+                        + "cantidad) VALUES (:clave, :idPais, :idArea, :estado, :mesIngreso, 0) "
+                        + "ON CONFLICT DO NOTHING")
+                .setParameter("clave", grupo.getClave())
+                .setParameter("idPais", grupo.getIdPais())
+                .setParameter("idArea", grupo.getIdArea())
+                .setParameter("estado", grupo.getEstado())
+                .setParameter("mesIngreso", grupo.getMesIngreso())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,21 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.armirene.empleados.infrastructure.entity.CorreoSecuencia;
+
+@Repository
+public interface CorreoSecuenciaRepository extends JpaRepository<CorreoSecuencia, String>,
+        CorreoSecuenciaRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE CorreoSecuencia c SET c.ultimo = c.ultimo + :cantidad WHERE c.prefijo = :prefijo")
+    int incrementar(@Param("prefijo") String prefijo, @Param("cantidad") int cantidad);
+
+    @Query("SELECT c.ultimo FROM CorreoSecuencia c WHERE c.prefijo = :prefijo")
+    Integer obtenerUltimo(@Param("prefijo") String prefijo);
+}
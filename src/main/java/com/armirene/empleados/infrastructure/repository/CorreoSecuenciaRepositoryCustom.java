@@ -0,0 +1,6 @@
+package com.armirene.empleados.infrastructure.repository;
+
+public interface CorreoSecuenciaRepositoryCustom {
+
+    int insertarSiNoExiste(String prefijo, int ultimo);
+}
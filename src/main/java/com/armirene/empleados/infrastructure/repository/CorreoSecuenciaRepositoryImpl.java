@@ -0,0 +1,35 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Creación de los contadores de correo.
+ */
+public class CorreoSecuenciaRepositoryImpl implements CorreoSecuenciaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Crea el contador de un prefijo si todavía no existe. En PostgreSQL la
+     * sentencia lleva {@code ON CONFLICT DO NOTHING}; en H2, donde un error no
+     * invalida la transacción, Hibernate descarta el de clave duplicada. En ambos
+     * casos un contador que otra transacción creó primero no revierte la actual.
+     *
+     * @param prefijo el prefijo {@code nombre.apellido@dominio}.
+     * @param ultimo  el último sufijo ya usado por los empleados existentes.
+     * @return 1 si se creó el contador, 0 si ya existía.
+     */
+    @Override
+    public int insertarSiNoExiste(String prefijo, int ultimo) {
+        return entityManager.unwrap(Session.class)
+                .createMutationQuery("INSERT INTO CorreoSecuencia (prefijo, ultimo) VALUES (:prefijo, :ultimo) "
+                        + "ON CONFLICT DO NOTHING")
+                .setParameter("prefijo", prefijo)
+                .setParameter("ultimo", ultimo)
+                .executeUpdate();
+    }
+}
@@ -1,13 +1,30 @@
 package com.armirene.empleados.infrastructure.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.armirene.empleados.infrastructure.entity.Empleado;
 
 @Repository
-public interface EmpleadoRepository extends JpaRepository<Empleado, Long>, JpaSpecificationExecutor<Empleado> {
+public interface EmpleadoRepository extends JpaRepository<Empleado, Long>, JpaSpecificationExecutor<Empleado>,
+        EmpleadoRepositoryCustom {
 
     boolean existsByCorreo(String correo);
+
+    @Query("SELECT e.correo FROM Empleado e WHERE e.correo = :correo OR e.correo LIKE :patron")
+    List<String> buscarCorreosConPrefijo(@Param("correo") String correo, @Param("patron") String patron);
+
+    @Query("SELECT e.fotoHash FROM Empleado e WHERE e.id = :id AND e.fotoHash IS NOT NULL")
+    Optional<String> obtenerFotoHash(@Param("id") Long id);
+
+    @Query("SELECT p.id, a.id, e.estado, year(e.fechaIngreso), month(e.fechaIngreso), count(e) FROM Empleado e "
+            + "LEFT JOIN e.pais p LEFT JOIN e.area a "
+            + "GROUP BY p.id, a.id, e.estado, year(e.fechaIngreso), month(e.fechaIngreso)")
+    List<Object[]> contarPorGrupoPlantilla();
 }
@@ -0,0 +1,31 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+public interface EmpleadoRepositoryCustom {
+
+    Page<EmpleadoResumenDto> buscarResumen(Specification<Empleado> specification, Pageable pageable);
+
+    Slice<EmpleadoResumenDto> buscarResumenSinConteo(Specification<Empleado> specification, Pageable pageable);
+
+    List<EmpleadoResumenDto> buscarResumen(Specification<Empleado> specification, Sort sort, int limite);
+
+    Stream<EmpleadoResumenDto> recorrerResumen(Specification<Empleado> specification, Sort sort);
+
+    List<Long> buscarIds(Specification<Empleado> specification);
+
+    int actualizarEstado(Specification<Empleado> specification, String estado, Timestamp fechaEdicion);
+
+    int eliminar(Specification<Empleado> specification);
+}
@@ -0,0 +1,212 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Consultas de empleados que no se pueden expresar con los métodos derivados de
+ * Spring Data, como el listado proyectado a {@link EmpleadoResumenDto}.
+ */
+public class EmpleadoRepositoryImpl implements EmpleadoRepositoryCustom {
+
+    private static final int TAMANO_BLOQUE_RECORRIDO = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Obtiene una página del listado de empleados con una sola consulta que une
+     * los catálogos y selecciona únicamente las columnas del resumen. El conteo
+     * total se omite cuando la página obtenida permite deducirlo.
+     *
+     * @param specification filtros del listado.
+     * @param pageable      página solicitada; si no define orden se ordena por ID.
+     * @return la página de resúmenes de empleados.
+     */
+    @Override
+    public Page<EmpleadoResumenDto> buscarResumen(Specification<Empleado> specification, Pageable pageable) {
+        List<EmpleadoResumenDto> contenido = crearConsultaResumen(specification, pageable.getSortOr(Sort.by("id")))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(contenido, pageable, () -> contar(specification));
+    }
+
+    /**
+     * Obtiene una página del listado de empleados sin contar el total. Se pide una
+     * fila adicional solo para saber si existe una página siguiente.
+     *
+     * @param specification filtros del listado.
+     * @param pageable      página solicitada; si no define orden se ordena por ID.
+     * @return la porción de resúmenes de empleados.
+     */
+    @Override
+    public Slice<EmpleadoResumenDto> buscarResumenSinConteo(Specification<Empleado> specification,
+            Pageable pageable) {
+        List<EmpleadoResumenDto> contenido = crearConsultaResumen(specification, pageable.getSortOr(Sort.by("id")))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean haySiguiente = contenido.size() > pageable.getPageSize();
+        return new SliceImpl<>(haySiguiente ? contenido.subList(0, pageable.getPageSize()) : contenido, pageable,
+                haySiguiente);
+    }
+
+    /**
+     * Obtiene las primeras filas del listado de empleados sin desplazamiento ni
+     * conteo. Combinado con un filtro sobre las columnas de orden permite recorrer
+     * el listado por cursor usando solo el índice.
+     *
+     * @param specification filtros del listado, incluida la posición del cursor.
+     * @param sort          orden de las filas.
+     * @param limite        cantidad máxima de filas.
+     * @return las filas encontradas, como máximo {@code limite}.
+     */
+    @Override
+    public List<EmpleadoResumenDto> buscarResumen(Specification<Empleado> specification, Sort sort, int limite) {
+        return crearConsultaResumen(specification, sort).setMaxResults(limite).getResultList();
+    }
+
+    /**
+     * Recorre el listado de empleados completo con un cursor de solo avance. Las
+     * filas se traen de la base de datos en bloques de
+     * {@value #TAMANO_BLOQUE_RECORRIDO} y, como son proyecciones y no entidades,
+     * no se acumulan en el contexto de persistencia. Debe consumirse dentro de una
+     * transacción y cerrarse al terminar.
+     *
+     * @param specification filtros del listado.
+     * @param sort          orden de las filas.
+     * @return el flujo de resúmenes de empleados.
+     */
+    @Override
+    public Stream<EmpleadoResumenDto> recorrerResumen(Specification<Empleado> specification, Sort sort) {
+        return crearConsultaResumen(specification, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TAMANO_BLOQUE_RECORRIDO)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Obtiene solo los IDs de los empleados que cumplen el filtro, sin cargar las
+     * entidades.
+     *
+     * @param specification filtros del listado.
+     * @return los IDs encontrados, ordenados.
+     */
+    @Override
+    public List<Long> buscarIds(Specification<Empleado> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Empleado> root = query.from(Empleado.class);
+        query.select(root.get("id"))
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(criteriaBuilder.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Cambia el estado de los empleados que cumplen el filtro con una sola
+     * sentencia {@code UPDATE}, sin cargarlos en el contexto de persistencia. La
+     * versión de cada fila se incrementa para que las ediciones pendientes sobre
+     * esos empleados fallen, y Hibernate invalida la región de empleados de la
+     * caché de segundo nivel.
+     *
+     * @param specification filtros de los empleados a modificar.
+     * @param estado        el nuevo estado.
+     * @param fechaEdicion  la fecha de edición que se registra en cada fila.
+     * @return la cantidad de filas modificadas.
+     */
+    @Override
+    public int actualizarEstado(Specification<Empleado> specification, String estado, Timestamp fechaEdicion) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Empleado> update = criteriaBuilder.createCriteriaUpdate(Empleado.class);
+        Root<Empleado> root = update.from(Empleado.class);
+        update.set(root.<String>get("estado"), estado)
+                .set(root.<Timestamp>get("fechaEdicion"), fechaEdicion)
+                .set(root.<Long>get("version"), criteriaBuilder.sum(root.<Long>get("version"), 1L))
+                .where(specification.toPredicate(root, null, criteriaBuilder));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Elimina los empleados que cumplen el filtro con una sola sentencia
+     * {@code DELETE}, sin cargarlos en el contexto de persistencia.
+     *
+     * @param specification filtros de los empleados a eliminar.
+     * @return la cantidad de filas eliminadas.
+     */
+    @Override
+    public int eliminar(Specification<Empleado> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Empleado> delete = criteriaBuilder.createCriteriaDelete(Empleado.class);
+        Root<Empleado> root = delete.from(Empleado.class);
+        delete.where(specification.toPredicate(root, null, criteriaBuilder));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    private TypedQuery<EmpleadoResumenDto> crearConsultaResumen(Specification<Empleado> specification, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmpleadoResumenDto> query = criteriaBuilder.createQuery(EmpleadoResumenDto.class);
+        Root<Empleado> root = query.from(Empleado.class);
+        Join<Empleado, TipoIdentificacion> tipoIdentificacion = root.join("tipoIdentificacion", JoinType.LEFT);
+        Join<Empleado, Pais> pais = root.join("pais", JoinType.LEFT);
+        Join<Empleado, Area> area = root.join("area", JoinType.LEFT);
+
+        query.select(criteriaBuilder.construct(EmpleadoResumenDto.class,
+                root.get("id"),
+                root.get("primerNombre"),
+                root.get("otrosNombres"),
+                root.get("primerApellido"),
+                root.get("segundoApellido"),
+                tipoIdentificacion.get("abrev"),
+                root.get("numeroIdentificacion"),
+                pais.get("nombre"),
+                area.get("nombre"),
+                root.get("correo"),
+                root.get("estado"),
+                root.get("fechaIngreso"),
+                root.get("fechaRegistro"),
+                root.get("fotoHash"),
+                root.get("version")))
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(query);
+    }
+
+    private long contar(Specification<Empleado> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Empleado> root = query.from(Empleado.class);
+        query.select(criteriaBuilder.count(root)).where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
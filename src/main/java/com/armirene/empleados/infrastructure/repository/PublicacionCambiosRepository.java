@@ -0,0 +1,21 @@
+package com.armirene.empleados.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.armirene.empleados.infrastructure.entity.PublicacionCambios;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface PublicacionCambiosRepository extends JpaRepository<PublicacionCambios, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PublicacionCambios p WHERE p.id = " + PublicacionCambios.ID)
+    PublicacionCambios bloquear();
+
+    @Query("SELECT p.ultimaPosicion FROM PublicacionCambios p WHERE p.id = " + PublicacionCambios.ID)
+    long obtenerUltimaPosicion();
+}
@@ -5,11 +5,35 @@ import java.util.regex.Pattern;
 
 public class CorreoUtil {
 
-    private static final String CORREO_REGEX = "([a-zA-Z]+)\\.([a-zA-Z]+)(\\.\\d+)?@.*";
+    private static final Pattern CORREO_REGEX = Pattern.compile("([a-zA-Z]+)\\.([a-zA-Z]+)(\\.\\d+)?@.*");
+
+    /**
+     * Genera la parte base del correo electrónico utilizando el primer nombre y
+     * apellido del empleado.
+     *
+     * @param primerNombre   el primer nombre del empleado; solo se usa la primera
+     *                       palabra.
+     * @param primerApellido el primer apellido, sin espacios ni guiones.
+     * @return la parte base del correo electrónico, {@code nombre.apellido}.
+     */
+    public static String generarCorreoBase(String primerNombre, String primerApellido) {
+        int espacio = primerNombre.indexOf(' ');
+        String nombre = espacio >= 0 ? primerNombre.substring(0, espacio) : primerNombre;
+
+        StringBuilder correoBase = new StringBuilder(nombre.length() + primerApellido.length() + 1)
+                .append(nombre.toLowerCase())
+                .append('.');
+        for (int i = 0; i < primerApellido.length(); i++) {
+            char c = primerApellido.charAt(i);
+            if (c != '-' && !Character.isWhitespace(c)) {
+                correoBase.append(Character.toLowerCase(c));
+            }
+        }
+        return correoBase.toString();
+    }
 
     public static String[] extraerNombreApellido(String correo) {
-        Pattern pattern = Pattern.compile(CORREO_REGEX);
-        Matcher matcher = pattern.matcher(correo);
+        Matcher matcher = CORREO_REGEX.matcher(correo);
 
         if (matcher.find()) {
             String nombre = matcher.group(1);
@@ -0,0 +1,40 @@
+package com.armirene.empleados.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.armirene.empleados.infrastructure.util.enums.OrdenCursor;
+
+/**
+ * Codifica la posición de la paginación por cursor como un token opaco: el
+ * orden, el valor de la columna de orden y el ID de la última fila entregada.
+ */
+public class CursorUtil {
+
+    private static final String SEPARADOR = "|";
+
+    public static String codificar(OrdenCursor orden, String valor, Long id) {
+        String cursor = orden.getValor() + SEPARADOR + id + SEPARADOR + (valor != null ? valor : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token generado por {@link #codificar}.
+     *
+     * @param token el cursor recibido en el parámetro {@code after}.
+     * @return un arreglo con el orden, el ID y el valor de la columna de orden.
+     * @throws IllegalArgumentException si el token no es un cursor válido.
+     */
+    public static String[] decodificar(String token) {
+        String[] partes;
+        try {
+            partes = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("El cursor no es válido.");
+        }
+        if (partes.length != 3) {
+            throw new IllegalArgumentException("El cursor no es válido.");
+        }
+        return partes;
+    }
+}
@@ -0,0 +1,49 @@
+package com.armirene.empleados.infrastructure.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.util.enums.FormatoArchivo;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+/**
+ * Escribe el listado de empleados fila por fila en un archivo de exportación,
+ * sin acumular las filas en memoria. En CSV la primera línea es la cabecera con
+ * los campos de {@link EmpleadoResumenDto}; en NDJSON cada línea es un objeto
+ * JSON.
+ */
+public class EscritorEmpleados implements Closeable {
+
+    private final SequenceWriter escritor;
+
+    public EscritorEmpleados(OutputStream salida, FormatoArchivo formato, ObjectMapper objectMapper)
+            throws IOException {
+        if (formato == FormatoArchivo.CSV) {
+            CsvMapper csvMapper = CsvMapper.builder()
+                    .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            this.escritor = csvMapper.writer(csvMapper.schemaFor(EmpleadoResumenDto.class).withHeader())
+                    .writeValues(salida);
+        } else {
+            this.escritor = objectMapper.writerFor(EmpleadoResumenDto.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(salida);
+        }
+    }
+
+    public void escribir(EmpleadoResumenDto empleado) throws IOException {
+        escritor.write(empleado);
+    }
+
+    @Override
+    public void close() throws IOException {
+        escritor.close();
+    }
+}
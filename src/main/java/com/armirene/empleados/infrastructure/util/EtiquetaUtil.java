@@ -0,0 +1,164 @@
+package com.armirene.empleados.infrastructure.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.dto.PaginaDto;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+/**
+ * Calcula las etiquetas (ETag) fuertes de las respuestas de empleados y de
+ * catálogos, para
+ * responder {@code 304 Not Modified} sin serializar el cuerpo y para rechazar
+ * con {@code If-Match} las ediciones hechas sobre una versión anterior.
+ */
+public class EtiquetaUtil {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private static final String SUFIJO_CBOR = "-cbor";
+
+    private static final String SUFIJO_SMILE = "-smile";
+
+    /**
+     * Etiqueta de un empleado: su ID, su versión, que cambia con cada escritura,
+     * y un resumen de los catálogos que se devuelven anidados, cuyos nombres
+     * pueden cambiar sin modificar al empleado.
+     *
+     * @param empleado el empleado.
+     * @return la etiqueta, sin comillas.
+     */
+    public static String calcular(Empleado empleado) {
+        return empleado.getId() + "-" + empleado.getVersion() + "-" + Integer.toHexString(
+                Objects.hash(empleado.getTipoIdentificacion(), empleado.getPais(), empleado.getArea()));
+    }
+
+    /**
+     * Etiqueta de una página del listado: un resumen SHA-256 de los datos de
+     * paginación y, por cada fila, de su ID, su versión y los nombres de sus
+     * catálogos, que pueden cambiar sin modificar al empleado. Se calcula sobre
+     * una forma canónica explícita, sin serializar la página ni depender de su
+     * {@code toString()}.
+     *
+     * @param pagina la página.
+     * @return la etiqueta, sin comillas.
+     */
+    public static String calcular(PaginaDto<EmpleadoResumenDto> pagina) {
+        MessageDigest resumen = crearResumen();
+        agregar(resumen, pagina.getPagina(), pagina.getTamano(), pagina.getTotalElementos(),
+                pagina.getTotalPaginas(), pagina.getSiguienteCursor(), pagina.getHaySiguiente(),
+                pagina.getTotalEstimado());
+        for (EmpleadoResumenDto fila : pagina.getContenido()) {
+            agregar(resumen, fila.getId(), fila.getVersion(), fila.getTipoIdentificacion(), fila.getPais(),
+                    fila.getArea());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(resumen.digest());
+    }
+
+    /**
+     * Etiqueta de un catálogo: un resumen SHA-256 de los campos de cada registro,
+     * en el orden en que se devuelven, así que cambia con cualquier alta, baja o
+     * cambio de nombre.
+     *
+     * @param catalogo los registros del catálogo.
+     * @param campos   los campos serializados de un registro.
+     * @return la etiqueta, sin comillas.
+     */
+    public static <T> String calcular(List<T> catalogo, Function<T, Object[]> campos) {
+        MessageDigest resumen = crearResumen();
+        agregar(resumen, catalogo.size());
+        for (T registro : catalogo) {
+            agregar(resumen, campos.apply(registro));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(resumen.digest());
+    }
+
+    /**
+     * Ajusta una etiqueta a la representación negociada con el encabezado
+     * {@code Accept}. JSON, CBOR y Smile son cuerpos distintos y una etiqueta
+     * fuerte identifica un cuerpo exacto, así que CBOR y Smile llevan un sufijo;
+     * JSON, el formato por defecto, conserva la etiqueta sin cambios.
+     *
+     * @param etiqueta la etiqueta de los datos, sin comillas.
+     * @param aceptar  el valor del encabezado {@code Accept}, o {@code null}.
+     * @return la etiqueta de la representación, sin comillas.
+     */
+    public static String paraRepresentacion(String etiqueta, String aceptar) {
+        if (aceptar == null || aceptar.isBlank()) {
+            return etiqueta;
+        }
+        MediaType elegido = null;
+        try {
+            for (MediaType tipo : MediaType.parseMediaTypes(aceptar)) {
+                boolean producible = tipo.isCompatibleWith(MediaType.APPLICATION_JSON)
+                        || tipo.isCompatibleWith(MediaType.APPLICATION_CBOR) || tipo.isCompatibleWith(SMILE);
+                if (producible && (elegido == null || tipo.getQualityValue() > elegido.getQualityValue())) {
+                    elegido = tipo;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return etiqueta;
+        }
+        if (elegido != null && elegido.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+            return etiqueta + SUFIJO_CBOR;
+        }
+        if (elegido != null && elegido.equalsTypeAndSubtype(SMILE)) {
+            return etiqueta + SUFIJO_SMILE;
+        }
+        return etiqueta;
+    }
+
+    /**
+     * Evalúa el encabezado {@code If-Match} con comparación fuerte: coincide
+     * {@code *} o alguna de las etiquetas de la lista; las etiquetas débiles
+     * ({@code W/}) nunca coinciden.
+     *
+     * @param siCoincide el valor del encabezado, o {@code null} si no se envió.
+     * @param empleado   el empleado actual.
+     * @return {@code true} si no se envió el encabezado o si coincide.
+     */
+    public static boolean coincide(String siCoincide, Empleado empleado) {
+        if (siCoincide == null || siCoincide.isBlank() || siCoincide.trim().equals("*")) {
+            return true;
+        }
+        String actual = calcular(empleado);
+        for (String etiqueta : siCoincide.split(",")) {
+            etiqueta = etiqueta.trim();
+            if (etiqueta.length() < 2 || !etiqueta.startsWith("\"") || !etiqueta.endsWith("\"")) {
+                continue;
+            }
+            etiqueta = etiqueta.substring(1, etiqueta.length() - 1);
+            if (etiqueta.equals(actual) || etiqueta.equals(actual + SUFIJO_CBOR)
+                    || etiqueta.equals(actual + SUFIJO_SMILE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MessageDigest crearResumen() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible.", e);
+        }
+    }
+
+    private static void agregar(MessageDigest resumen, Object... valores) {
+        for (Object valor : valores) {
+            // La longitud delante de cada valor evita que dos secuencias distintas
+            // produzcan el mismo texto al concatenarse.
+            String texto = valor != null ? valor.toString() : "";
+            resumen.update((valor != null ? texto.length() + ":" + texto : "-").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -16,6 +16,20 @@ public class FechaUtils {
         return Date.from(fechaUnMesAntes.atStartOfDay(ZoneId.systemDefault()).toInstant());
     }
 
+    /**
+     * Obtiene el primer día del mes de una fecha, en la zona horaria del sistema,
+     * la misma con la que se guardan las fechas en la base de datos.
+     *
+     * @param fecha la fecha; puede ser {@code null}.
+     * @return el primer día del mes, o {@code null} si la fecha es nula.
+     */
+    public static LocalDate obtenerInicioDeMes(Date fecha) {
+        if (fecha == null) {
+            return null;
+        }
+        return fecha.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().withDayOfMonth(1);
+    }
+
     public static String formatearFecha(Date fecha) {
         SimpleDateFormat formato = new SimpleDateFormat("dd/MM/yyyy");
         return formato.format(fecha);
@@ -0,0 +1,130 @@
+package com.armirene.empleados.infrastructure.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.util.enums.FormatoArchivo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvReadException;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Lee un archivo de importación de empleados registro por registro, sin cargarlo
+ * completo en memoria. En CSV la cabecera con los nombres de los campos de
+ * {@link EmpleadoDto} la interpreta el lector de CSV, así que se admiten
+ * nombres entre comillas y campos entre comillas con saltos de línea; en NDJSON
+ * cada línea es un objeto JSON. La marca de orden de bytes (BOM) que agregan
+ * algunas hojas de cálculo se descarta. Un registro mal formado no detiene la
+ * lectura: se devuelve con su error.
+ */
+public class LectorEmpleados {
+
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader lector;
+
+    private final ObjectReader objectReader;
+
+    private final MappingIterator<EmpleadoDto> registros;
+
+    /** Número de la última línea leída, solo en NDJSON. */
+    private long numeroLinea;
+
+    public LectorEmpleados(InputStream entrada, FormatoArchivo formato, ObjectMapper objectMapper)
+            throws IOException {
+        this.lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        omitirBom(lector);
+        if (formato == FormatoArchivo.CSV) {
+            this.objectReader = null;
+            try {
+                this.registros = new CsvMapper()
+                        .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                        .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                        .readerFor(EmpleadoDto.class)
+                        .with(CsvSchema.emptySchema().withHeader())
+                        .readValues(lector);
+                // La cabecera se lee al pedir el primer registro.
+                registros.hasNextValue();
+            } catch (CsvReadException e) {
+                throw new IllegalArgumentException("El archivo CSV no tiene cabecera.");
+            }
+            if (((CsvParser) registros.getParser()).getSchema().size() == 0) {
+                throw new IllegalArgumentException("El archivo CSV no tiene cabecera.");
+            }
+        } else {
+            this.objectReader = objectMapper.readerFor(EmpleadoDto.class);
+            this.registros = null;
+        }
+    }
+
+    /**
+     * Lee el siguiente registro no vacío del archivo.
+     *
+     * @return el registro leído, con el número de la línea en la que empieza y el
+     *         empleado o el error de formato, o {@code null} al final del archivo.
+     * @throws IOException si ocurre un error leyendo el archivo.
+     */
+    public Linea siguiente() throws IOException {
+        if (registros != null) {
+            return siguienteCsv();
+        }
+        String linea;
+        do {
+            linea = lector.readLine();
+            numeroLinea++;
+            if (linea == null) {
+                return null;
+            }
+        } while (linea.isBlank());
+
+        try {
+            return new Linea(numeroLinea, objectReader.readValue(linea), null);
+        } catch (JsonProcessingException e) {
+            return new Linea(numeroLinea, null, "Formato inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    private Linea siguienteCsv() throws IOException {
+        if (!registros.hasNextValue()) {
+            return null;
+        }
+        // Tras abrir el registro el lector ya está en su primera línea.
+        long numero = registros.getParser().currentLocation().getLineNr();
+        try {
+            return new Linea(numero, registros.nextValue(), null);
+        } catch (JsonProcessingException e) {
+            // El iterador descarta el resto del registro y sigue con el siguiente.
+            return new Linea(numero, null, "Formato inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    private static void omitirBom(BufferedReader lector) throws IOException {
+        lector.mark(1);
+        if (lector.read() != BOM) {
+            lector.reset();
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Linea {
+
+        private long numero;
+
+        private EmpleadoDto empleado;
+
+        private String error;
+    }
+}
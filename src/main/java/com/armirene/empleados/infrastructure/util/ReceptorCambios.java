@@ -0,0 +1,20 @@
+package com.armirene.empleados.infrastructure.util;
+
+import java.util.List;
+
+import com.armirene.empleados.infrastructure.dto.CambioEmpleadoDto;
+
+/**
+ * Destino de los cambios de empleados publicados, como una conexión de eventos
+ * enviados por el servidor o una consulta que espera cambios nuevos.
+ */
+public interface ReceptorCambios {
+
+    /**
+     * Recibe los cambios siguientes a los ya entregados, en orden de posición.
+     *
+     * @param cambios los cambios, nunca vacío.
+     * @return {@code false} si el receptor no quiere recibir más cambios.
+     */
+    boolean recibir(List<CambioEmpleadoDto> cambios);
+}
@@ -0,0 +1,63 @@
+package com.armirene.empleados.infrastructure.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+/**
+ * Descompone textos en trigramas con las mismas reglas de {@code pg_trgm}: el
+ * texto se pasa a minúsculas, se separa en palabras de letras y dígitos, y cada
+ * palabra se rellena con dos espacios al inicio y uno al final antes de tomar
+ * todas sus secuencias de tres caracteres.
+ */
+public class TrigramaUtil {
+
+    /**
+     * Obtiene los trigramas distintos de un texto.
+     *
+     * @param texto el texto a descomponer; puede ser {@code null}.
+     * @return los trigramas del texto, vacío si no tiene letras ni dígitos.
+     */
+    public static Set<String> trigramas(String texto) {
+        Set<String> trigramas = new LinkedHashSet<>();
+        if (texto == null) {
+            return trigramas;
+        }
+        StringBuilder palabra = new StringBuilder("  ");
+        for (int i = 0; i <= texto.length(); i++) {
+            char c = i < texto.length() ? texto.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                palabra.append(Character.toLowerCase(c));
+            } else if (palabra.length() > 2) {
+                palabra.append(' ');
+                for (int j = 0; j + 3 <= palabra.length(); j++) {
+                    trigramas.add(palabra.substring(j, j + 3));
+                }
+                palabra.setLength(2);
+            }
+        }
+        return trigramas;
+    }
+
+    /**
+     * Une los campos de un empleado sobre los que se hace la búsqueda por texto:
+     * nombres, apellidos, correo y número de identificación.
+     *
+     * @param empleado el empleado.
+     * @return el texto de búsqueda del empleado.
+     */
+    public static String textoBusqueda(Empleado empleado) {
+        return String.join(" ",
+                valor(empleado.getPrimerNombre()),
+                valor(empleado.getOtrosNombres()),
+                valor(empleado.getPrimerApellido()),
+                valor(empleado.getSegundoApellido()),
+                valor(empleado.getCorreo()),
+                valor(empleado.getNumeroIdentificacion()));
+    }
+
+    private static String valor(String campo) {
+        return campo != null ? campo : "";
+    }
+}
@@ -0,0 +1,174 @@
+package com.armirene.empleados.infrastructure.util;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoParcialDto;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.OtrosNombresException;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.PrimerApellidoException;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.PrimerNombreException;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.SegundoApellidoException;
+
+/**
+ * Comprobaciones de formato de los datos de un empleado. Recorren los caracteres
+ * de la cadena una sola vez, sin expresiones regulares ni objetos intermedios,
+ * y son las que usan tanto las anotaciones de {@code EmpleadoDto} como las
+ * validaciones del servicio y de la importación masiva.
+ */
+public class ValidacionUtil {
+
+    public static final int LONGITUD_MAXIMA_NOMBRE = 20;
+
+    public static final int LONGITUD_MAXIMA_OTROS_NOMBRES = 50;
+
+    /**
+     * Valida los datos del empleado antes de su creación o actualización.
+     * Verifica los valores de los atributos del objeto {@link EmpleadoDto} y arroja
+     * excepciones personalizadas en caso de que alguno de los valores no sea
+     * válido. Las excepciones son instancias únicas sin traza de pila.
+     *
+     * @param empleadoDto el objeto {@link EmpleadoDto} que contiene los datos a
+     *                    validar.
+     * @throws PrimerNombreException    si el primer nombre es nulo, vacío o no
+     *                                  cumple con el formato.
+     * @throws OtrosNombresException    si los otros nombres no cumplen con el
+     *                                  formato o superan el límite de caracteres.
+     * @throws PrimerApellidoException  si el primer apellido es nulo, vacío o no
+     *                                  cumple con el formato.
+     * @throws SegundoApellidoException si el segundo apellido es nulo, vacío o no
+     *                                  cumple con el formato.
+     */
+    public static void validarEmpleado(EmpleadoDto empleadoDto) {
+        String primerNombre = empleadoDto.getPrimerNombre();
+        if (primerNombre == null || primerNombre.isEmpty()) {
+            throw PrimerNombreException.REQUERIDO;
+        }
+        if (!esNombre(primerNombre, LONGITUD_MAXIMA_NOMBRE)) {
+            throw PrimerNombreException.INVALIDO;
+        }
+
+        String otrosNombres = empleadoDto.getOtrosNombres();
+        if (otrosNombres != null && otrosNombres.length() > LONGITUD_MAXIMA_OTROS_NOMBRES) {
+            throw OtrosNombresException.LONGITUD;
+        }
+        if (otrosNombres != null && !esNombres(otrosNombres, LONGITUD_MAXIMA_OTROS_NOMBRES)) {
+            throw OtrosNombresException.INVALIDO;
+        }
+
+        String primerApellido = empleadoDto.getPrimerApellido();
+        if (primerApellido == null || primerApellido.isEmpty()) {
+            throw PrimerApellidoException.REQUERIDO;
+        }
+        if (!esNombre(primerApellido, LONGITUD_MAXIMA_NOMBRE)) {
+            throw PrimerApellidoException.INVALIDO;
+        }
+
+        String segundoApellido = empleadoDto.getSegundoApellido();
+        if (segundoApellido == null || segundoApellido.isEmpty()) {
+            throw SegundoApellidoException.REQUERIDO;
+        }
+        if (!esNombre(segundoApellido, LONGITUD_MAXIMA_NOMBRE)) {
+            throw SegundoApellidoException.INVALIDO;
+        }
+    }
+
+    /**
+     * Valida solo los campos presentes en unos cambios parciales, con las mismas
+     * reglas de {@link #validarEmpleado(EmpleadoDto)}. Un campo obligatorio
+     * presente pero vacío se rechaza.
+     *
+     * @param cambios los cambios recibidos.
+     * @throws IllegalArgumentException si el número de identificación no es válido.
+     */
+    public static void validarCambiosEmpleado(EmpleadoParcialDto cambios) {
+        String primerNombre = cambios.getPrimerNombre();
+        if (primerNombre != null && primerNombre.isEmpty()) {
+            throw PrimerNombreException.REQUERIDO;
+        }
+        if (primerNombre != null && !esNombre(primerNombre, LONGITUD_MAXIMA_NOMBRE)) {
+            throw PrimerNombreException.INVALIDO;
+        }
+
+        String otrosNombres = cambios.getOtrosNombres();
+        if (otrosNombres != null && otrosNombres.length() > LONGITUD_MAXIMA_OTROS_NOMBRES) {
+            throw OtrosNombresException.LONGITUD;
+        }
+        if (otrosNombres != null && !otrosNombres.isEmpty()
+                && !esNombres(otrosNombres, LONGITUD_MAXIMA_OTROS_NOMBRES)) {
+            throw OtrosNombresException.INVALIDO;
+        }
+
+        String primerApellido = cambios.getPrimerApellido();
+        if (primerApellido != null && primerApellido.isEmpty()) {
+            throw PrimerApellidoException.REQUERIDO;
+        }
+        if (primerApellido != null && !esNombre(primerApellido, LONGITUD_MAXIMA_NOMBRE)) {
+            throw PrimerApellidoException.INVALIDO;
+        }
+
+        String segundoApellido = cambios.getSegundoApellido();
+        if (segundoApellido != null && segundoApellido.isEmpty()) {
+            throw SegundoApellidoException.REQUERIDO;
+        }
+        if (segundoApellido != null && !esNombre(segundoApellido, LONGITUD_MAXIMA_NOMBRE)) {
+            throw SegundoApellidoException.INVALIDO;
+        }
+
+        if (cambios.getNumeroIdentificacion() != null && !esIdentificacion(cambios.getNumeroIdentificacion())) {
+            throw new IllegalArgumentException("No se permiten caracteres especiales.");
+        }
+    }
+
+    /**
+     * Indica si el valor es un nombre o apellido: solo letras de la A a la Z en
+     * mayúscula, sin espacios, y entre 1 y {@code longitudMaxima} caracteres.
+     */
+    public static boolean esNombre(String valor, int longitudMaxima) {
+        if (valor == null || valor.isEmpty() || valor.length() > longitudMaxima) {
+            return false;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            if (!esMayuscula(valor.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si el valor solo contiene letras de la A a la Z en mayúscula y
+     * espacios, con como máximo {@code longitudMaxima} caracteres. La cadena vacía
+     * es válida.
+     */
+    public static boolean esNombres(String valor, int longitudMaxima) {
+        if (valor == null || valor.length() > longitudMaxima) {
+            return false;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (!esMayuscula(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si el valor es un número de identificación: letras ASCII, dígitos y
+     * guiones, con al menos un carácter.
+     */
+    public static boolean esIdentificacion(String valor) {
+        if (valor == null || valor.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (!esMayuscula(c) && !(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9') && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean esMayuscula(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
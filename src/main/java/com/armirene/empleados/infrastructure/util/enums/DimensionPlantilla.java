@@ -0,0 +1,40 @@
+package com.armirene.empleados.infrastructure.util.enums;
+
+/**
+ * Dimensiones por las que se puede agrupar el reporte de plantilla. Cada una
+ * corresponde a un atributo de
+ * {@link com.armirene.empleados.infrastructure.entity.ConteoPlantilla}.
+ */
+public enum DimensionPlantilla {
+
+    PAIS("pais", "idPais"),
+    AREA("area", "idArea"),
+    ESTADO("estado", "estado"),
+    MES("mes", "mesIngreso");
+
+    private final String valor;
+
+    private final String atributo;
+
+    DimensionPlantilla(String valor, String atributo) {
+        this.valor = valor;
+        this.atributo = atributo;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public String getAtributo() {
+        return atributo;
+    }
+
+    public static DimensionPlantilla obtenerDimension(String valor) {
+        for (DimensionPlantilla dimension : values()) {
+            if (dimension.valor.equals(valor)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Dimensión no soportada para el reporte de plantilla: " + valor);
+    }
+}
@@ -0,0 +1,45 @@
+package com.armirene.empleados.infrastructure.util.enums;
+
+import org.springframework.http.MediaType;
+
+public enum FormatoArchivo {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String valor;
+
+    private final String extension;
+
+    FormatoArchivo(String valor, String extension) {
+        this.valor = valor;
+        this.extension = extension;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static FormatoArchivo obtenerFormato(String tipoContenido) {
+        MediaType mediaType = MediaType.parseMediaType(tipoContenido);
+        for (FormatoArchivo formato : values()) {
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(formato.valor))) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato de archivo no soportado: " + tipoContenido);
+    }
+
+    public static FormatoArchivo obtenerPorExtension(String extension) {
+        for (FormatoArchivo formato : values()) {
+            if (formato.extension.equalsIgnoreCase(extension)) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato de archivo no soportado: " + extension);
+    }
+}
@@ -0,0 +1,31 @@
+package com.armirene.empleados.infrastructure.util.enums;
+
+/**
+ * Órdenes admitidos por la paginación por cursor. Todos terminan en el ID para
+ * que el orden sea total y cada uno tiene un índice que lo respalda.
+ */
+public enum OrdenCursor {
+
+    ID("id"),
+    PRIMER_APELLIDO("primerApellido"),
+    FECHA_REGISTRO("fechaRegistro");
+
+    private final String valor;
+
+    OrdenCursor(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public static OrdenCursor obtenerOrden(String valor) {
+        for (OrdenCursor orden : values()) {
+            if (orden.valor.equals(valor)) {
+                return orden;
+            }
+        }
+        throw new IllegalArgumentException("Orden no soportado para la paginación por cursor: " + valor);
+    }
+}
@@ -0,0 +1,22 @@
+package com.armirene.empleados.infrastructure.util.enums;
+
+/**
+ * Tipos de cambio que se registran para cada empleado y se publican en
+ * {@code GET /empleados/cambios}.
+ */
+public enum TipoCambio {
+
+    CREADO("CREADO"),
+    ACTUALIZADO("ACTUALIZADO"),
+    ELIMINADO("ELIMINADO");
+
+    private final String valor;
+
+    TipoCambio(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+}
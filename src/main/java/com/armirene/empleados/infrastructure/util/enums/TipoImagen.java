@@ -0,0 +1,45 @@
+package com.armirene.empleados.infrastructure.util.enums;
+
+public enum TipoImagen {
+
+    PNG("image/png"),
+    JPEG("image/jpeg"),
+    GIF("image/gif"),
+    WEBP("image/webp");
+
+    private final String valor;
+
+    TipoImagen(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    /**
+     * Identifica el formato de una imagen a partir de sus primeros bytes.
+     *
+     * @param cabecera los primeros bytes del archivo (al menos 12 para WebP).
+     * @param longitud cantidad de bytes válidos en {@code cabecera}.
+     * @return el tipo detectado o {@code null} si no es un formato soportado.
+     */
+    public static TipoImagen detectar(byte[] cabecera, int longitud) {
+        if (longitud >= 8 && (cabecera[0] & 0xFF) == 0x89 && cabecera[1] == 'P' && cabecera[2] == 'N'
+                && cabecera[3] == 'G') {
+            return PNG;
+        }
+        if (longitud >= 3 && (cabecera[0] & 0xFF) == 0xFF && (cabecera[1] & 0xFF) == 0xD8
+                && (cabecera[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (longitud >= 6 && cabecera[0] == 'G' && cabecera[1] == 'I' && cabecera[2] == 'F' && cabecera[3] == '8') {
+            return GIF;
+        }
+        if (longitud >= 12 && cabecera[0] == 'R' && cabecera[1] == 'I' && cabecera[2] == 'F' && cabecera[3] == 'F'
+                && cabecera[8] == 'W' && cabecera[9] == 'E' && cabecera[10] == 'B' && cabecera[11] == 'P') {
+            return WEBP;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.armirene.empleados.infrastructure.util.validacion;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * El campo solo puede contener letras ASCII, dígitos y guiones. Los valores
+ * nulos se consideran válidos.
+ */
+@Documented
+@Constraint(validatedBy = IdentificacionValidator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Identificacion {
+
+    String message() default "No se permiten caracteres especiales.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,14 @@
+package com.armirene.empleados.infrastructure.util.validacion;
+
+import com.armirene.empleados.infrastructure.util.ValidacionUtil;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class IdentificacionValidator implements ConstraintValidator<Identificacion, String> {
+
+    @Override
+    public boolean isValid(String valor, ConstraintValidatorContext context) {
+        return valor == null || ValidacionUtil.esIdentificacion(valor);
+    }
+}
@@ -0,0 +1,27 @@
+package com.armirene.empleados.infrastructure.util.validacion;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * El campo solo puede contener letras de la A a la Z en mayúscula y espacios.
+ * Los valores nulos se consideran válidos.
+ */
+@Documented
+@Constraint(validatedBy = SoloMayusculasValidator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SoloMayusculas {
+
+    String message() default "El campo solo debe contener letras mayúsculas sin acentos ni Ñ";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,14 @@
+package com.armirene.empleados.infrastructure.util.validacion;
+
+import com.armirene.empleados.infrastructure.util.ValidacionUtil;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class SoloMayusculasValidator implements ConstraintValidator<SoloMayusculas, String> {
+
+    @Override
+    public boolean isValid(String valor, ConstraintValidatorContext context) {
+        return valor == null || !valor.isEmpty() && ValidacionUtil.esNombres(valor, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,4 @@
+-- Hash SHA-256 de la foto en el almacén direccionado por contenido. La columna
+-- foto (Base64) se conserva hasta que MigracionFotosLegado la vacía
+-- (empleados.fotos.migrar-legado=true).
+ALTER TABLE empleado ADD COLUMN IF NOT EXISTS foto_hash VARCHAR(64);
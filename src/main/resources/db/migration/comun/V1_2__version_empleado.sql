@@ -0,0 +1,3 @@
+-- Versión para el bloqueo optimista y las etiquetas (ETag) de los empleados. Las
+-- filas existentes empiezan en 0.
+ALTER TABLE empleado ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,6 @@
+-- Último sufijo asignado por prefijo de correo (CorreoServiceImpl). Cada prefijo
+-- se inicializa la primera vez que se usa a partir de los correos existentes.
+CREATE TABLE IF NOT EXISTS correo_secuencia (
+    prefijo VARCHAR(300) PRIMARY KEY,
+    ultimo INTEGER NOT NULL
+);
@@ -0,0 +1,43 @@
+-- Esquema inicial, el mismo que generaba Hibernate con ddl-auto=update antes de
+-- las migraciones. Las bases existentes se marcan en esta versión
+-- (baseline-on-migrate) y no la ejecutan, así que todo lo que se agregó después
+-- va en las versiones siguientes, para que ambas lleguen al mismo esquema.
+
+CREATE TABLE pais (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    codigo VARCHAR(255),
+    nombre VARCHAR(255)
+);
+
+CREATE TABLE area (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre VARCHAR(255)
+);
+
+CREATE TABLE tipo_identificacion (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    abrev VARCHAR(2),
+    nombre VARCHAR(255)
+);
+
+CREATE TABLE empleado (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    primer_nombre VARCHAR(20),
+    otros_nombres VARCHAR(50),
+    primer_apellido VARCHAR(20),
+    segundo_apellido VARCHAR(20),
+    correo VARCHAR(300),
+    numero_identificacion VARCHAR(20),
+    estado VARCHAR(255),
+    fecha_ingreso TIMESTAMP(6),
+    fecha_registro TIMESTAMP(6),
+    fecha_edicion TIMESTAMP(6),
+    foto TEXT,
+    id_tipo_identificacion INTEGER,
+    id_pais INTEGER,
+    id_area INTEGER,
+    CONSTRAINT fk_empleado_tipo_identificacion FOREIGN KEY (id_tipo_identificacion)
+        REFERENCES tipo_identificacion (id),
+    CONSTRAINT fk_empleado_pais FOREIGN KEY (id_pais) REFERENCES pais (id),
+    CONSTRAINT fk_empleado_area FOREIGN KEY (id_area) REFERENCES area (id)
+);
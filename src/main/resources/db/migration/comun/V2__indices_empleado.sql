@@ -0,0 +1,19 @@
+-- Unicidad real de correo y número de identificación. Los valores NULL no
+-- colisionan entre sí. En PostgreSQL la versión 1.5 resuelve antes los
+-- repetidos que dejó la base creada sin estas restricciones.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_empleado_correo ON empleado (correo);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_empleado_numero_identificacion ON empleado (numero_identificacion);
+
+-- Un índice por cada filtro del listado (createSpecification). Los que terminan
+-- en id devuelven las filas ya ordenadas por id, el orden por defecto del
+-- listado y el de la paginación por cursor.
+CREATE INDEX IF NOT EXISTS ix_empleado_primer_nombre_id ON empleado (primer_nombre, id);
+CREATE INDEX IF NOT EXISTS ix_empleado_primer_apellido_id ON empleado (primer_apellido, id);
+CREATE INDEX IF NOT EXISTS ix_empleado_estado_id ON empleado (estado, id);
+CREATE INDEX IF NOT EXISTS ix_empleado_fecha_registro_id ON empleado (fecha_registro, id);
+
+-- País y estado se filtran casi siempre juntos; el índice también sirve al
+-- filtro solo por país y a la clave foránea.
+CREATE INDEX IF NOT EXISTS ix_empleado_pais_estado_id ON empleado (id_pais, estado, id);
+CREATE INDEX IF NOT EXISTS ix_empleado_tipo_identificacion ON empleado (id_tipo_identificacion);
+CREATE INDEX IF NOT EXISTS ix_empleado_area ON empleado (id_area);
@@ -0,0 +1,23 @@
+-- Conteo de empleados por país, área, estado y mes de ingreso. Lo mantienen al
+-- día las escrituras de empleados (PlantillaServiceImpl), así que los reportes
+-- agregados leen esta tabla en lugar de recorrer la de empleados. La clave une
+-- las cuatro dimensiones, con cadena vacía para las nulas, porque una clave
+-- primaria compuesta no admite valores NULL.
+CREATE TABLE conteo_plantilla (
+    clave VARCHAR(300) PRIMARY KEY,
+    id_pais INTEGER,
+    id_area INTEGER,
+    estado VARCHAR(255),
+    mes_ingreso DATE,
+    cantidad BIGINT NOT NULL
+);
+
+INSERT INTO conteo_plantilla (clave, id_pais, id_area, estado, mes_ingreso, cantidad)
+SELECT COALESCE(CAST(id_pais AS VARCHAR(11)), '') || '|' || COALESCE(CAST(id_area AS VARCHAR(11)), '') || '|'
+        || COALESCE(CAST(mes_ingreso AS VARCHAR(10)), '') || '|' || COALESCE(estado, ''),
+    id_pais, id_area, estado, mes_ingreso, COUNT(*)
+FROM (
+    SELECT id_pais, id_area, estado, CAST(DATE_TRUNC('month', fecha_ingreso) AS DATE) AS mes_ingreso
+    FROM empleado
+) e
+GROUP BY id_pais, id_area, estado, mes_ingreso;
@@ -0,0 +1,22 @@
+-- Registro de cambios de empleados (outbox) que se publica en GET /empleados/cambios.
+-- Cada alta, edición o baja inserta una fila en la misma transacción que la modifica.
+-- La posición, que es la que usan los consumidores para retomar la lectura, se asigna
+-- después de confirmar, en orden y sin huecos, bloqueando la fila de publicacion_cambios.
+
+CREATE TABLE cambio_empleado (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    posicion BIGINT,
+    id_empleado BIGINT NOT NULL,
+    tipo VARCHAR(20) NOT NULL,
+    version BIGINT,
+    fecha TIMESTAMP(6) NOT NULL
+);
+
+CREATE UNIQUE INDEX idx_cambio_empleado_posicion ON cambio_empleado (posicion);
+
+CREATE TABLE publicacion_cambios (
+    id INTEGER PRIMARY KEY,
+    ultima_posicion BIGINT NOT NULL
+);
+
+INSERT INTO publicacion_cambios (id, ultima_posicion) VALUES (1, 0);
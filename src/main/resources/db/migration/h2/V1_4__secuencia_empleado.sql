@@ -0,0 +1,8 @@
+-- Los identificadores de empleado pasan de la columna IDENTITY a una secuencia
+-- que Hibernate reserva de a 50 (Empleado.id), para agrupar las inserciones.
+ALTER TABLE empleado ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS empleado_seq START WITH 1 INCREMENT BY 50;
+
+-- Hibernate toma cada valor de la secuencia como el último de un bloque de 50,
+-- así que el siguiente valor debe ser al menos el mayor id existente más 50.
+ALTER SEQUENCE empleado_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM empleado);
@@ -0,0 +1,65 @@
+-- Antes de los índices únicos de la versión 2. Los correos repetidos son
+-- generados (nombre.apellido[.n]@dominio), así que cada repetición (todas menos
+-- la de menor id) recibe un sufijo nuevo por encima del mayor sufijo que ya usa
+-- su prefijo en ese dominio; los contadores de correo_secuencia parten después
+-- del mayor sufijo existente. Un correo repetido que no sigue ese formato, o un
+-- número de identificación repetido, es un dato que hay que corregir a mano, así
+-- que la migración se detiene indicando cuáles son.
+WITH correos AS (
+    SELECT id, correo,
+           regexp_replace(correo, '^([^.@]+[.][^.@]+)([.][0-9]+)?@.*$', '\1') AS prefijo,
+           substring(correo from '@(.*)$') AS dominio,
+           COALESCE(substring(correo from '^[^.@]+[.][^.@]+[.]([0-9]+)@')::BIGINT, 0) AS sufijo
+    FROM empleado
+    WHERE correo ~ '^[^.@]+[.][^.@]+([.][0-9]+)?@'
+),
+maximos AS (
+    SELECT prefijo, dominio, MAX(sufijo) AS sufijo
+    FROM correos
+    GROUP BY prefijo, dominio
+),
+repetidos AS (
+    SELECT c.id, c.prefijo, c.dominio,
+           ROW_NUMBER() OVER (PARTITION BY c.prefijo, c.dominio ORDER BY c.id) AS orden
+    FROM correos c
+    WHERE EXISTS (SELECT 1 FROM empleado o WHERE o.correo = c.correo AND o.id < c.id)
+)
+UPDATE empleado e
+SET correo = r.prefijo || '.' || (m.sufijo + r.orden) || '@' || r.dominio
+FROM repetidos r
+JOIN maximos m ON m.prefijo = r.prefijo AND m.dominio = r.dominio
+WHERE e.id = r.id;
+
+DO $$
+DECLARE
+    repetidos TEXT;
+BEGIN
+    SELECT string_agg(correo, ', ' ORDER BY correo)
+    INTO repetidos
+    FROM (
+        SELECT correo
+        FROM empleado
+        WHERE correo IS NOT NULL
+        GROUP BY correo
+        HAVING COUNT(*) > 1
+    ) d;
+
+    IF repetidos IS NOT NULL THEN
+        RAISE EXCEPTION 'Correos repetidos en empleado: %. Corríjalos antes de migrar.', repetidos;
+    END IF;
+
+    SELECT string_agg(numero_identificacion, ', ' ORDER BY numero_identificacion)
+    INTO repetidos
+    FROM (
+        SELECT numero_identificacion
+        FROM empleado
+        WHERE numero_identificacion IS NOT NULL
+        GROUP BY numero_identificacion
+        HAVING COUNT(*) > 1
+    ) d;
+
+    IF repetidos IS NOT NULL THEN
+        RAISE EXCEPTION 'Números de identificación repetidos en empleado: %. Corríjalos antes de migrar.', repetidos;
+    END IF;
+END
+$$;
@@ -0,0 +1,12 @@
+-- Búsqueda por texto (?q=) con pg_trgm. La expresión debe coincidir exactamente
+-- con BusquedaEmpleadoPostgresServiceImpl.TEXTO para que PostgreSQL use el índice.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS ix_empleado_busqueda_trgm ON empleado USING gin (
+    lower(coalesce(primer_nombre, '') || ' ' || coalesce(otros_nombres, '')
+        || ' ' || coalesce(primer_apellido, '') || ' ' || coalesce(segundo_apellido, '')
+        || ' ' || coalesce(correo, '') || ' ' || coalesce(numero_identificacion, '')) gin_trgm_ops);
+
+-- Prefijo de correo (correo LIKE 'nombre.apellido.%@dominio') al crear el contador
+-- de un prefijo. El índice único no sirve para LIKE fuera de la intercalación C.
+CREATE INDEX IF NOT EXISTS ix_empleado_correo_patron ON empleado (correo varchar_pattern_ops);
@@ -0,0 +1,160 @@
+package com.armirene.empleados.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.armirene.empleados.EmpleadosApplication;
+
+/**
+ * Mide el tiempo desde que se lanza la JVM hasta que {@link EmpleadosApplication}
+ * queda lista, con el jar extraído por {@code mvn -Parranque package}: sin AOT,
+ * con AOT y con AOT más el archivo CDS. Cada medición es un proceso nuevo contra
+ * una base H2 en memoria; al terminar cada modo se imprime la mediana del RSS del
+ * proceso al quedar listo. El archivo CDS del benchmark se entrena la primera vez
+ * con la misma ruta de clases, porque la de producción depende de PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ArranqueBenchmark {
+
+    private static final Path DIRECTORIO = Paths.get("target", "arranque");
+
+    private static final String LISTA = "Started " + EmpleadosApplication.class.getSimpleName();
+
+    @Param({ "jit", "aot", "aot-cds" })
+    private String modo;
+
+    private List<String> comando;
+    private List<Long> rss;
+    private Process proceso;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws Exception {
+        Path jar;
+        try (Stream<Path> archivos = Files.list(DIRECTORIO)) {
+            jar = archivos.filter(ruta -> ruta.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Ejecute antes mvn -Parranque package."));
+        } catch (IOException e) {
+            throw new IllegalStateException("Ejecute antes mvn -Parranque package.", e);
+        }
+        Path h2 = Paths.get(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path archivoCds = DIRECTORIO.resolve("benchmark.jsa");
+
+        List<String> opciones = new ArrayList<>();
+        if (!"jit".equals(modo)) {
+            opciones.add("-Dspring.aot.enabled=true");
+        }
+        if ("aot-cds".equals(modo) && Files.notExists(archivoCds)) {
+            List<String> entrenamiento = new ArrayList<>(opciones);
+            entrenamiento.add("-XX:ArchiveClassesAtExit=" + archivoCds);
+            entrenamiento.add("-Dspring.context.exit=onRefresh");
+            Process entrenar = new ProcessBuilder(comando(entrenamiento, jar, h2))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (entrenar.waitFor() != 0 || Files.notExists(archivoCds)) {
+                throw new IllegalStateException("No fue posible entrenar el archivo CDS.");
+            }
+        }
+        if ("aot-cds".equals(modo)) {
+            opciones.add("-XX:SharedArchiveFile=" + archivoCds);
+        }
+        comando = comando(opciones, jar, h2);
+        rss = new ArrayList<>();
+    }
+
+    @Benchmark
+    public long arrancar() throws IOException {
+        proceso = new ProcessBuilder(comando).redirectErrorStream(true).start();
+        BufferedReader salida = new BufferedReader(
+                new InputStreamReader(proceso.getInputStream(), StandardCharsets.UTF_8));
+        String linea;
+        while ((linea = salida.readLine()) != null) {
+            if (linea.contains(LISTA)) {
+                long memoria = leerRss(proceso.pid());
+                rss.add(memoria);
+                return memoria;
+            }
+        }
+        throw new IllegalStateException("La aplicación terminó sin arrancar.");
+    }
+
+    @TearDown(Level.Invocation)
+    public void detener() throws InterruptedException {
+        proceso.destroy();
+        proceso.waitFor();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportar() {
+        Collections.sort(rss);
+        System.out.println();
+        System.out.println("RSS al quedar lista (" + modo + "), mediana: " + rss.get(rss.size() / 2) / 1024 + " MB");
+    }
+
+    private List<String> comando(List<String> opciones, Path jar, Path h2) {
+        List<String> comando = new ArrayList<>();
+        comando.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        comando.addAll(opciones);
+        comando.add("-cp");
+        comando.add(jar + File.pathSeparator + h2);
+        comando.add(EmpleadosApplication.class.getName());
+        comando.add("--server.port=0");
+        comando.add("--spring.datasource.url=jdbc:h2:mem:arranque;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"
+                + ";DEFAULT_NULL_ORDERING=HIGH");
+        comando.add("--spring.datasource.username=sa");
+        comando.add("--spring.datasource.password=");
+        comando.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        comando.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        comando.add("--spring.jpa.show-sql=false");
+        comando.add("--logging.level.org.hibernate.sql=info");
+        comando.add("--empleados.fotos.directorio=" + DIRECTORIO.resolve("fotos"));
+        return comando;
+    }
+
+    /**
+     * Lee la memoria residente de un proceso en KB desde {@code /proc}, o -1
+     * fuera de Linux.
+     */
+    private long leerRss(long pid) throws IOException {
+        Path estado = Paths.get("/proc", String.valueOf(pid), "status");
+        if (Files.notExists(estado)) {
+            return -1;
+        }
+        for (String linea : Files.readAllLines(estado)) {
+            if (linea.startsWith("VmRSS:")) {
+                return Long.parseLong(linea.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+}
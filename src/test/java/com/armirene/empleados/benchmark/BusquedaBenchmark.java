@@ -0,0 +1,80 @@
+package com.armirene.empleados.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.armirene.empleados.application.BusquedaEmpleadoMemoriaServiceImpl;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+
+/**
+ * Mide la búsqueda por texto del índice de trigramas en memoria con nombres y
+ * apellidos aleatorios, para un prefijo, una subcadena y un apellido con un
+ * error de digitación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BusquedaBenchmark {
+
+    private static final String[] NOMBRES = { "JUAN", "MARIA", "ANA", "PEDRO", "LUIS", "CARLOS", "LAURA", "SOFIA",
+            "ANDRES", "CAMILA", "DIEGO", "VALENTINA", "JORGE", "PAULA", "MIGUEL", "DANIELA" };
+
+    private static final String[] APELLIDOS = { "RODRIGUEZ", "GOMEZ", "FERNANDEZ", "MARTINEZ", "LOPEZ", "PEREZ",
+            "GARCIA", "SANCHEZ", "RAMIREZ", "TORRES", "DIAZ", "VARGAS", "CASTRO", "RUIZ", "HERRERA", "MEDINA",
+            "AGUILAR", "MORENO", "JIMENEZ", "ROJAS", "ORTIZ", "SILVA", "MENDOZA", "GUERRERO" };
+
+    @Param({ "10000", "100000" })
+    private int empleados;
+
+    private BusquedaEmpleadoMemoriaServiceImpl busqueda;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        busqueda = new BusquedaEmpleadoMemoriaServiceImpl();
+        Random random = new Random(42);
+        for (long id = 1; id <= empleados; id++) {
+            String nombre = NOMBRES[random.nextInt(NOMBRES.length)];
+            String apellido = APELLIDOS[random.nextInt(APELLIDOS.length)];
+            Empleado empleado = new Empleado();
+            empleado.setId(id);
+            empleado.setPrimerNombre(nombre);
+            empleado.setPrimerApellido(apellido);
+            empleado.setSegundoApellido(APELLIDOS[random.nextInt(APELLIDOS.length)]);
+            empleado.setCorreo(nombre.toLowerCase() + "." + apellido.toLowerCase() + "." + id + "@tuarmi.com.co");
+            empleado.setNumeroIdentificacion(String.valueOf(10_000_000 + random.nextInt(90_000_000)));
+            busqueda.indexar(empleado);
+        }
+    }
+
+    @Benchmark
+    public List<Long> prefijo() {
+        return busqueda.buscar("valent", 10);
+    }
+
+    @Benchmark
+    public List<Long> subcadena() {
+        return busqueda.buscar("nande", 10);
+    }
+
+    @Benchmark
+    public List<Long> errorDigitacion() {
+        return busqueda.buscar("rodriges", 10);
+    }
+}
@@ -0,0 +1,95 @@
+package com.armirene.empleados.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prueba de carga del listado de empleados para comparar el modo con hilos de
+ * plataforma contra el perfil {@code virtual}. Mantiene una cantidad fija de
+ * clientes concurrentes pidiendo {@code GET /empleados} durante un tiempo y
+ * reporta el rendimiento y los percentiles de latencia.
+ *
+ * <p>
+ * Uso, con la aplicación ya iniciada en cada modo:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.armirene.empleados.benchmark.CargaListado \
+ *     -Dexec.args="http://localhost:8080/empleados?size=20 400 30"
+ * </pre>
+ *
+ * Los argumentos son la URL, la cantidad de clientes concurrentes y la duración
+ * en segundos.
+ */
+public class CargaListado {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/empleados?size=20");
+        int clientes = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+        HttpRequest solicitud = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        long fin = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        List<List<Long>> latenciasPorCliente = new ArrayList<>();
+        AtomicLong errores = new AtomicLong();
+        AtomicLong rechazadas = new AtomicLong();
+        ExecutorService hilos = Executors.newFixedThreadPool(clientes);
+        for (int i = 0; i < clientes; i++) {
+            List<Long> latencias = new ArrayList<>();
+            latenciasPorCliente.add(latencias);
+            hilos.submit(() -> {
+                while (System.nanoTime() < fin) {
+                    long inicio = System.nanoTime();
+                    try {
+                        int estado = cliente.send(solicitud, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (estado == 503) {
+                            rechazadas.incrementAndGet();
+                        } else if (estado != 200) {
+                            errores.incrementAndGet();
+                        } else {
+                            latencias.add(System.nanoTime() - inicio);
+                        }
+                    } catch (Exception e) {
+                        errores.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        hilos.shutdown();
+        hilos.awaitTermination(segundos + 120L, TimeUnit.SECONDS);
+
+        List<Long> todas = new ArrayList<>();
+        latenciasPorCliente.forEach(todas::addAll);
+        Collections.sort(todas);
+        System.out.printf("url=%s clientes=%d duracion=%ds%n", uri, clientes, segundos);
+        System.out.printf("exitosas=%d rechazadas(503)=%d errores=%d rendimiento=%.1f req/s%n", todas.size(),
+                rechazadas.get(), errores.get(), todas.size() / (double) segundos);
+        System.out.printf("p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n", percentil(todas, 0.50),
+                percentil(todas, 0.90), percentil(todas, 0.99), percentil(todas, 1.0));
+        System.exit(0);
+    }
+
+    private static double percentil(List<Long> ordenadas, double percentil) {
+        if (ordenadas.isEmpty()) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * ordenadas.size()) - 1;
+        return ordenadas.get(Math.max(indice, 0)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.armirene.empleados.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.armirene.empleados.EmpleadosApplication;
+import com.armirene.empleados.domain.CorreoService;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+
+/**
+ * Compara la asignación de correos con contador por prefijo contra el sondeo
+ * anterior con {@code existsByCorreo}, a medida que crece la cantidad de
+ * empleados que comparten el mismo {@code nombre.apellido}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CorreoBenchmark {
+
+    private static final String CORREO_BASE = "juan.perez";
+    private static final String DOMINIO = "tuarmi.com.co";
+
+    @Param({ "0", "100", "1000", "5000" })
+    private int duplicados;
+
+    private ConfigurableApplicationContext contexto;
+    private CorreoService correoService;
+    private EmpleadoRepository empleadoRepository;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(EmpleadosApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run();
+        correoService = contexto.getBean(CorreoService.class);
+        empleadoRepository = contexto.getBean(EmpleadoRepository.class);
+
+        List<Empleado> empleados = new ArrayList<>();
+        for (int i = 0; i < duplicados; i++) {
+            Empleado empleado = new Empleado();
+            empleado.setPrimerNombre("JUAN");
+            empleado.setPrimerApellido("PEREZ");
+            empleado.setCorreo(i == 0 ? CORREO_BASE + "@" + DOMINIO : CORREO_BASE + "." + i + "@" + DOMINIO);
+            empleados.add(empleado);
+        }
+        empleadoRepository.saveAll(empleados);
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public String asignarCorreo() {
+        return correoService.asignarCorreo(CORREO_BASE, DOMINIO);
+    }
+
+    @Benchmark
+    public String sondeoExistsByCorreo() {
+        String correo = CORREO_BASE + "@" + DOMINIO;
+        int contador = 1;
+        while (empleadoRepository.existsByCorreo(correo)) {
+            correo = CORREO_BASE + "." + contador + "@" + DOMINIO;
+            contador++;
+        }
+        return correo;
+    }
+}
@@ -0,0 +1,202 @@
+package com.armirene.empleados.benchmark;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.armirene.empleados.EmpleadosApplication;
+import com.armirene.empleados.application.EmpleadoServiceImpl;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.dto.PaginaDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.util.CorreoUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Mide los caminos más frecuentes del servicio de empleados que no dependen de
+ * la base de datos: la parte base del correo, la construcción de los predicados
+ * del listado, la decodificación de la foto en Base64 y la serialización JSON de
+ * una página del listado. La asignación del sufijo del correo se mide en
+ * {@link CorreoBenchmark} y la validación en {@link ValidacionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmpleadoServiceBenchmark {
+
+    private static final int TAMANO_PAGINA = 10;
+
+    private ConfigurableApplicationContext contexto;
+    private EmpleadoServiceImpl empleadoService;
+    private EntityManager entityManager;
+    private ObjectMapper objectMapper;
+
+    private EmpleadoDto filtro;
+    private Page<Empleado> paginaEntidades;
+    private PaginaDto<EmpleadoResumenDto> paginaResumen;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(EmpleadosApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run();
+        empleadoService = contexto.getBean(EmpleadoServiceImpl.class);
+        entityManager = contexto.getBean(EntityManagerFactory.class).createEntityManager();
+        objectMapper = contexto.getBean(ObjectMapper.class);
+
+        filtro = new EmpleadoDto();
+        filtro.setPrimerApellido("PEREZ");
+        filtro.setIdPais(1);
+        filtro.setEstado("ACTIVO");
+
+        List<Empleado> empleados = new ArrayList<>();
+        List<EmpleadoResumenDto> resumenes = new ArrayList<>();
+        for (int i = 0; i < TAMANO_PAGINA; i++) {
+            Empleado empleado = empleado(i);
+            empleados.add(empleado);
+            resumenes.add(new EmpleadoResumenDto(empleado.getId(), empleado.getPrimerNombre(),
+                    empleado.getOtrosNombres(), empleado.getPrimerApellido(), empleado.getSegundoApellido(), "CC",
+                    empleado.getNumeroIdentificacion(), "COLOMBIA", "SISTEMAS", empleado.getCorreo(),
+                    empleado.getEstado(), empleado.getFechaIngreso(), empleado.getFechaRegistro(), "a1b2c3",
+                    empleado.getVersion()));
+        }
+        paginaEntidades = new PageImpl<>(empleados, PageRequest.of(0, TAMANO_PAGINA), 1000);
+        paginaResumen = PaginaDto.de(new PageImpl<>(resumenes, PageRequest.of(0, TAMANO_PAGINA), 1000));
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        entityManager.close();
+        contexto.close();
+    }
+
+    @Benchmark
+    public String generarCorreoBase() {
+        return CorreoUtil.generarCorreoBase("JUAN CARLOS", "DE LA-TORRE");
+    }
+
+    @Benchmark
+    public Predicate createSpecification() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Empleado> query = criteriaBuilder.createQuery(Empleado.class);
+        Root<Empleado> root = query.from(Empleado.class);
+        Specification<Empleado> specification = empleadoService.createSpecification(filtro);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public byte[] decodificarFoto(Foto foto) {
+        return empleadoService.obtenerImagenBytes(foto.base64);
+    }
+
+    /**
+     * Costo de volver a codificar la foto en Base64 como se hacía antes de guardar
+     * las fotos fuera de la fila del empleado; sirve de referencia frente a
+     * {@link #decodificarFoto(Foto)}.
+     */
+    @Benchmark
+    public String codificarFoto(Foto foto) {
+        return Base64.getEncoder().encodeToString(foto.bytes);
+    }
+
+    @Benchmark
+    public String serializarPaginaEntidades() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(paginaEntidades);
+    }
+
+    @Benchmark
+    public String serializarPaginaResumen() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(paginaResumen);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Foto {
+
+        @Param({ "10240", "102400", "1048576" })
+        private int tamano;
+
+        private byte[] bytes;
+        private String base64;
+
+        @Setup(Level.Trial)
+        public void iniciar() {
+            bytes = new byte[tamano];
+            new Random(42).nextBytes(bytes);
+            base64 = Base64.getEncoder().encodeToString(bytes);
+        }
+    }
+
+    private Empleado empleado(int i) {
+        Pais pais = new Pais();
+        pais.setId(1);
+        pais.setCodigo("CO");
+        pais.setNombre("COLOMBIA");
+        Area area = new Area();
+        area.setId(1);
+        area.setNombre("SISTEMAS");
+        TipoIdentificacion tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setId(1);
+        tipoIdentificacion.setAbrev("CC");
+        tipoIdentificacion.setNombre("CEDULA DE CIUDADANIA");
+
+        Empleado empleado = new Empleado();
+        empleado.setId((long) i + 1);
+        empleado.setPrimerNombre("JUAN");
+        empleado.setOtrosNombres("CARLOS");
+        empleado.setPrimerApellido("PEREZ");
+        empleado.setSegundoApellido("LOPEZ");
+        empleado.setNumeroIdentificacion("100" + i);
+        empleado.setCorreo("juan.perez." + i + "@tuarmi.com.co");
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setFotoHash("a1b2c3");
+        empleado.setPais(pais);
+        empleado.setArea(area);
+        empleado.setTipoIdentificacion(tipoIdentificacion);
+        return empleado;
+    }
+}
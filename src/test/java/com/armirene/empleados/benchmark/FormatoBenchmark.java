@@ -0,0 +1,97 @@
+package com.armirene.empleados.benchmark;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.armirene.empleados.infrastructure.config.FormatosBinariosConfig;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.dto.PaginaDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara JSON, CBOR y Smile para una página del listado de empleados: el
+ * tiempo de codificar y decodificar la página con cada formato. Al iniciar se
+ * imprime el tamaño en bytes de la página en cada formato.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatoBenchmark {
+
+    private static final TypeReference<PaginaDto<EmpleadoResumenDto>> TIPO_PAGINA = new TypeReference<>() {
+    };
+
+    private static final String[] NOMBRES = { "JUAN", "MARIA", "ANA", "PEDRO", "LUIS", "CARLOS", "LAURA", "SOFIA" };
+
+    private static final String[] APELLIDOS = { "RODRIGUEZ", "GOMEZ", "FERNANDEZ", "MARTINEZ", "LOPEZ", "PEREZ",
+            "GARCIA", "SANCHEZ" };
+
+    @Param({ "json", "cbor", "smile" })
+    private String formato;
+
+    @Param({ "10", "100" })
+    private int tamano;
+
+    private ObjectMapper objectMapper;
+    private PaginaDto<EmpleadoResumenDto> pagina;
+    private byte[] codificada;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        FormatosBinariosConfig config = new FormatosBinariosConfig();
+        objectMapper = switch (formato) {
+            case "cbor" -> config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+            case "smile" -> config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        Random random = new Random(42);
+        List<EmpleadoResumenDto> empleados = new ArrayList<>(tamano);
+        for (long id = 1; id <= tamano; id++) {
+            String nombre = NOMBRES[random.nextInt(NOMBRES.length)];
+            String apellido = APELLIDOS[random.nextInt(APELLIDOS.length)];
+            empleados.add(new EmpleadoResumenDto(id, nombre, null, apellido,
+                    APELLIDOS[random.nextInt(APELLIDOS.length)], "CC",
+                    String.valueOf(10_000_000 + random.nextInt(90_000_000)), "COLOMBIA", "SISTEMAS",
+                    nombre.toLowerCase() + "." + apellido.toLowerCase() + "." + id + "@tuarmi.com.co", "ACTIVO",
+                    new Date(), new Timestamp(System.currentTimeMillis()), random.nextBoolean() ? "hash" : null,
+                    0L));
+        }
+        pagina = new PaginaDto<>(empleados, 0, tamano, 10_000L, 10_000 / tamano, null, true, null);
+        codificada = objectMapper.writeValueAsBytes(pagina);
+        System.out.println(formato + ", " + tamano + " empleados: " + codificada.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] codificar() throws IOException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public PaginaDto<EmpleadoResumenDto> decodificar() throws IOException {
+        return objectMapper.readValue(codificada, TIPO_PAGINA);
+    }
+}
@@ -0,0 +1,123 @@
+package com.armirene.empleados.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.armirene.empleados.EmpleadosApplication;
+import com.armirene.empleados.application.EmpleadoServiceImpl;
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara la subida de la foto en Base64 dentro del JSON de
+ * {@code POST /crearEmpleado} con la subida como archivo (multipart o
+ * {@code PUT /empleados/{id}/foto}), que se guarda por bloques. Ambos caminos
+ * leen el cuerpo desde disco, como lo deja el contenedor, y escriben la foto en
+ * el almacén en cada invocación. La columna {@code gc.alloc.rate.norm} del
+ * perfilador {@code gc} muestra los bytes asignados por subida.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FotoBenchmark {
+
+    @Param({ "65536", "1048576" })
+    private int tamano;
+
+    private ConfigurableApplicationContext contexto;
+    private EmpleadoServiceImpl empleadoService;
+    private FotoService fotoService;
+    private ObjectMapper objectMapper;
+
+    private Path directorio;
+    private Path cuerpoJson;
+    private Path archivo;
+    private Path almacenada;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws IOException {
+        directorio = Files.createTempDirectory("foto-benchmark");
+        contexto = new SpringApplicationBuilder(EmpleadosApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("empleados.fotos.directorio=" + directorio.resolve("almacen"),
+                        "empleados.fotos.tamano-maximo=10MB")
+                .run();
+        empleadoService = contexto.getBean(EmpleadoServiceImpl.class);
+        fotoService = contexto.getBean(FotoService.class);
+        objectMapper = contexto.getBean(ObjectMapper.class);
+
+        byte[] imagen = new byte[tamano];
+        new Random(42).nextBytes(imagen);
+        System.arraycopy(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' }, 0, imagen, 0, 8);
+
+        EmpleadoDto empleadoDto = new EmpleadoDto();
+        empleadoDto.setPrimerNombre("JUAN");
+        empleadoDto.setPrimerApellido("PEREZ");
+        empleadoDto.setSegundoApellido("LOPEZ");
+        empleadoDto.setFoto(Base64.getEncoder().encodeToString(imagen));
+        cuerpoJson = Files.write(directorio.resolve("cuerpo.json"), objectMapper.writeValueAsBytes(empleadoDto));
+        archivo = Files.write(directorio.resolve("foto.png"), imagen);
+
+        String hash = fotoService.guardar(imagen);
+        almacenada = directorio.resolve("almacen").resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    @TearDown(Level.Invocation)
+    public void borrarFoto() throws IOException {
+        Files.deleteIfExists(almacenada);
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() throws IOException {
+        contexto.close();
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            archivos.sorted(Comparator.reverseOrder()).forEach(ruta -> ruta.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String base64EnJson() throws IOException {
+        try (InputStream entrada = Files.newInputStream(cuerpoJson)) {
+            EmpleadoDto empleadoDto = objectMapper.readValue(entrada, EmpleadoDto.class);
+            return fotoService.guardar(empleadoService.obtenerImagenBytes(empleadoDto.getFoto()));
+        }
+    }
+
+    @Benchmark
+    public String archivoPorBloques() throws IOException {
+        try (InputStream entrada = Files.newInputStream(archivo)) {
+            return fotoService.guardar(entrada);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.armirene.empleados.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.armirene.empleados.EmpleadosApplication;
+import com.armirene.empleados.domain.PlantillaService;
+import com.armirene.empleados.infrastructure.dto.ConteoPlantillaDto;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compara el conteo de empleados por país y área leído de la tabla de conteos
+ * de plantilla con el mismo agrupamiento calculado sobre la tabla de empleados,
+ * con empleados repartidos al azar entre 4 países, 8 áreas, 3 estados y 24
+ * meses de ingreso. H2 no reutiliza resultados entre ejecuciones, para que cada
+ * invocación ejecute la consulta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlantillaBenchmark {
+
+    private static final String[] ESTADOS = { "ACTIVO", "INACTIVO", "VACACIONES" };
+
+    private static final List<DimensionPlantilla> DIMENSIONES = List.of(DimensionPlantilla.PAIS,
+            DimensionPlantilla.AREA);
+
+    private static final String URL = "jdbc:h2:mem:plantilla;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;OPTIMIZE_REUSE_RESULTS=FALSE;DB_CLOSE_DELAY=-1";
+
+    @Param({ "10000", "100000" })
+    private int empleados;
+
+    private ConfigurableApplicationContext contexto;
+    private PlantillaService plantillaService;
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(EmpleadosApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=" + URL);
+        plantillaService = contexto.getBean(PlantillaService.class);
+        entityManager = contexto.getBean(EntityManagerFactory.class).createEntityManager();
+
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        List<Object[]> paises = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            paises.add(new Object[] { i, "PAIS " + i });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO pais (id, nombre) VALUES (?, ?)", paises);
+        List<Object[]> areas = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            areas.add(new Object[] { i, "AREA " + i });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO area (id, nombre) VALUES (?, ?)", areas);
+
+        Random random = new Random(42);
+        LocalDateTime hoy = LocalDateTime.now();
+        List<Object[]> filas = new ArrayList<>(empleados);
+        for (long id = 1; id <= empleados; id++) {
+            filas.add(new Object[] { id, "JUAN", "PEREZ", ESTADOS[random.nextInt(ESTADOS.length)],
+                    Timestamp.valueOf(hoy.minusDays(random.nextInt(730))), 1 + random.nextInt(4),
+                    1 + random.nextInt(8) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO empleado (id, primer_nombre, primer_apellido, estado, fecha_ingreso, "
+                + "id_pais, id_area, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", filas);
+        plantillaService.reconstruir();
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        entityManager.close();
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<ConteoPlantillaDto> tablaDeConteos() {
+        return plantillaService.contar(DIMENSIONES, null, null, null);
+    }
+
+    @Benchmark
+    public List<Object[]> recorridoDeEmpleados() {
+        return entityManager.createQuery("SELECT p.id, a.id, count(e) FROM Empleado e LEFT JOIN e.pais p "
+                + "LEFT JOIN e.area a GROUP BY p.id, a.id ORDER BY p.id, a.id", Object[].class).getResultList();
+    }
+}
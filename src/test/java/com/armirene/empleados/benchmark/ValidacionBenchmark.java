@@ -0,0 +1,105 @@
+package com.armirene.empleados.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.util.CorreoUtil;
+import com.armirene.empleados.infrastructure.util.ValidacionUtil;
+
+/**
+ * Compara la validación de un empleado válido y de uno inválido con
+ * {@link ValidacionUtil} contra la validación anterior, que compilaba una
+ * expresión regular por campo con {@code String.matches} y lanzaba una
+ * excepción nueva con traza de pila.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidacionBenchmark {
+
+    private EmpleadoDto valido;
+    private EmpleadoDto invalido;
+
+    @Setup
+    public void iniciar() {
+        valido = empleado("PEREZ");
+        invalido = empleado("PÉREZ");
+    }
+
+    @Benchmark
+    public Object validarValido() {
+        return validar(valido);
+    }
+
+    @Benchmark
+    public Object validarInvalido() {
+        return validar(invalido);
+    }
+
+    @Benchmark
+    public Object validarValidoAnterior() {
+        return validarAnterior(valido);
+    }
+
+    @Benchmark
+    public Object validarInvalidoAnterior() {
+        return validarAnterior(invalido);
+    }
+
+    @Benchmark
+    public String[] extraerNombreApellido() {
+        return CorreoUtil.extraerNombreApellido("juan.perez.12@tuarmi.com.co");
+    }
+
+    private Object validar(EmpleadoDto empleado) {
+        try {
+            ValidacionUtil.validarEmpleado(empleado);
+            return empleado;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private Object validarAnterior(EmpleadoDto empleado) {
+        try {
+            if (!empleado.getPrimerNombre().matches("^[A-Z]{1,20}$")) {
+                throw new IllegalArgumentException("El primer nombre no es válido.");
+            }
+            if (!empleado.getOtrosNombres().matches("^[A-Z ]{0,50}$")) {
+                throw new IllegalArgumentException("Los otros nombres no son válidos.");
+            }
+            if (!empleado.getPrimerApellido().matches("^[A-Z]{1,20}$")) {
+                throw new IllegalArgumentException("El primer apellido no es válido.");
+            }
+            if (!empleado.getSegundoApellido().matches("^[A-Z]{1,20}$")) {
+                throw new IllegalArgumentException("El segundo apellido no es válido.");
+            }
+            return empleado;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private EmpleadoDto empleado(String segundoApellido) {
+        EmpleadoDto empleado = new EmpleadoDto();
+        empleado.setPrimerNombre("JUAN");
+        empleado.setOtrosNombres("CARLOS ANDRES");
+        empleado.setPrimerApellido("GOMEZ");
+        empleado.setSegundoApellido(segundoApellido);
+        return empleado;
+    }
+}
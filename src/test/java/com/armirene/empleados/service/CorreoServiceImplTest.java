@@ -0,0 +1,62 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.armirene.empleados.domain.CorreoService;
+
+@SpringBootTest
+class CorreoServiceImplTest {
+
+    @Autowired
+    private CorreoService correoService;
+
+    @Test
+    void testAsignarCorreo_SufijosConsecutivos() {
+        assertEquals("ana.ruiz@tuarmi.com.co", correoService.asignarCorreo("ana.ruiz", "tuarmi.com.co"));
+        assertEquals("ana.ruiz.1@tuarmi.com.co", correoService.asignarCorreo("ana.ruiz", "tuarmi.com.co"));
+        assertEquals("ana.ruiz@armirene.com.ve", correoService.asignarCorreo("ana.ruiz", "armirene.com.ve"));
+        assertEquals("ana.ruiz.2@tuarmi.com.co", correoService.asignarCorreo("ana.ruiz", "tuarmi.com.co"));
+    }
+
+    @Test
+    void testAsignarCorreo_ConcurrenteSinDuplicados() throws Exception {
+        int hilos = 8;
+        int porHilo = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        List<Future<List<String>>> resultados = new ArrayList<>();
+
+        Callable<List<String>> tarea = () -> {
+            List<String> correos = new ArrayList<>();
+            for (int i = 0; i < porHilo; i++) {
+                correos.add(correoService.asignarCorreo("juan.perez", "tuarmi.com.co"));
+            }
+            return correos;
+        };
+        for (int i = 0; i < hilos; i++) {
+            resultados.add(executor.submit(tarea));
+        }
+
+        Set<String> correos = new HashSet<>();
+        for (Future<List<String>> resultado : resultados) {
+            correos.addAll(resultado.get());
+        }
+        executor.shutdown();
+
+        assertEquals(hilos * porHilo, correos.size());
+        assertTrue(correos.contains("juan.perez@tuarmi.com.co"));
+        assertTrue(correos.contains("juan.perez." + (hilos * porHilo - 1) + "@tuarmi.com.co"));
+    }
+}
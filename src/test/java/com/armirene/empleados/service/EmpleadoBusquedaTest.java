@@ -0,0 +1,144 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+
+@SpringBootTest
+class EmpleadoBusquedaTest {
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    private Pais colombia;
+
+    private Pais venezuela;
+
+    @BeforeEach
+    void setUp() {
+        colombia = paisRepository.save(pais("COLOMBIA"));
+        venezuela = paisRepository.save(pais("VENEZUELA"));
+        empleadoRepository.save(empleado("MARIA", "RODRIGUEZ", "GOMEZ", "52100200", colombia));
+        empleadoRepository.save(empleado("JUAN", "FERNANDEZ", "RUIZ", "80300400", colombia));
+        empleadoRepository.save(empleado("ANA", "RODRIGO", "PAEZ", "V-1234567", venezuela));
+        empleadoRepository.save(empleado("PEDRO", "MARTINEZ", "LOPEZ", "10900800", venezuela));
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        paisRepository.deleteAll();
+    }
+
+    @Test
+    void testBuscar_Prefix() {
+        assertEquals(Set.of("RODRIGO", "RODRIGUEZ"), Set.copyOf(apellidos(buscar("rodrig"))));
+    }
+
+    @Test
+    void testBuscar_Contains() {
+        assertEquals(List.of("FERNANDEZ"), apellidos(buscar("nande")));
+    }
+
+    @Test
+    void testBuscar_TypoTolerant_RanksClosestFirst() {
+        List<EmpleadoResumenDto> resultado = buscar("RODRIGUES");
+
+        assertFalse(resultado.isEmpty());
+        assertEquals("RODRIGUEZ", resultado.get(0).getPrimerApellido());
+    }
+
+    @Test
+    void testBuscar_CorreoAndIdentificacion() {
+        assertEquals(List.of("MARTINEZ"), apellidos(buscar("pedro.martinez")));
+        assertEquals(List.of("RODRIGO"), apellidos(buscar("1234567")));
+    }
+
+    @Test
+    void testBuscar_CombinedWithFilters() {
+        EmpleadoDto filter = new EmpleadoDto();
+        filter.setIdPais(venezuela.getId());
+
+        List<EmpleadoResumenDto> resultado = empleadoService.buscar(filter, "rodrig", 10).getContenido();
+
+        assertEquals(List.of("RODRIGO"), apellidos(resultado));
+    }
+
+    @Test
+    void testBuscar_SelectiveFilter_LooksPastTopResults() {
+        empleadoRepository.deleteAll(empleadoRepository.findAll().stream()
+                .filter(empleado -> "RODRIGO".equals(empleado.getPrimerApellido()))
+                .toList());
+        for (int i = 0; i < 20; i++) {
+            Empleado empleado = empleado("MARIA", "RODRIGUEZ", "GOMEZ", "5300" + i, colombia);
+            empleado.setCorreo("maria.rodriguez." + (i + 1) + "@tuarmi.com.co");
+            empleadoRepository.save(empleado);
+        }
+        empleadoRepository.save(empleado("ANA", "RODRIGO", "PAEZ", "V-1234567", venezuela));
+        EmpleadoDto filter = new EmpleadoDto();
+        filter.setIdPais(venezuela.getId());
+
+        List<EmpleadoResumenDto> resultado = empleadoService.buscar(filter, "rodrig", 2).getContenido();
+
+        assertEquals(List.of("RODRIGO"), apellidos(resultado));
+    }
+
+    @Test
+    void testBuscar_DeletedEmpleadoIsNotFound() {
+        empleadoRepository.deleteAll(empleadoRepository.findAll().stream()
+                .filter(empleado -> "FERNANDEZ".equals(empleado.getPrimerApellido()))
+                .toList());
+
+        assertTrue(buscar("fernandez").isEmpty());
+    }
+
+    private List<EmpleadoResumenDto> buscar(String texto) {
+        return empleadoService.buscar(new EmpleadoDto(), texto, 10).getContenido();
+    }
+
+    private List<String> apellidos(List<EmpleadoResumenDto> empleados) {
+        return empleados.stream().map(EmpleadoResumenDto::getPrimerApellido).toList();
+    }
+
+    private Empleado empleado(String nombre, String primerApellido, String segundoApellido,
+            String numeroIdentificacion, Pais pais) {
+        Empleado empleado = new Empleado();
+        empleado.setPrimerNombre(nombre);
+        empleado.setPrimerApellido(primerApellido);
+        empleado.setSegundoApellido(segundoApellido);
+        empleado.setNumeroIdentificacion(numeroIdentificacion);
+        empleado.setCorreo(nombre.toLowerCase() + "." + primerApellido.toLowerCase() + "@tuarmi.com.co");
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setPais(pais);
+        return empleado;
+    }
+
+    private Pais pais(String nombre) {
+        Pais pais = new Pais();
+        pais.setNombre(nombre);
+        return pais;
+    }
+}
@@ -0,0 +1,166 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.armirene.empleados.domain.ConteoEmpleadoService;
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class EmpleadoCacheTest {
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private ConteoEmpleadoService conteoEmpleadoService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Empleado empleado;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        conteoEmpleadoService.limpiarCache();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Pais pais = new Pais();
+        pais.setCodigo("CO");
+        pais.setNombre("COLOMBIA");
+        Area area = new Area();
+        area.setNombre("SISTEMAS");
+        TipoIdentificacion tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+
+        empleado = new Empleado();
+        empleado.setPrimerNombre("JUAN");
+        empleado.setPrimerApellido("PEREZ");
+        empleado.setSegundoApellido("LOPEZ");
+        empleado.setNumeroIdentificacion("123");
+        empleado.setCorreo("juan.perez@tuarmi.com.co");
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setPais(paisRepository.save(pais));
+        empleado.setArea(areaRepository.save(area));
+        empleado.setTipoIdentificacion(tipoIdentificacionRepository.save(tipoIdentificacion));
+        empleado = empleadoRepository.save(empleado);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testFindById_SecondCallServedFromCache() {
+        empleadoService.findById(empleado.getId());
+        statistics.clear();
+
+        Empleado encontrado = empleadoService.findById(empleado.getId()).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(4, statistics.getSecondLevelCacheHitCount(), "empleado, país, área y tipo de identificación");
+        assertEquals("COLOMBIA", encontrado.getPais().getNombre());
+    }
+
+    @Test
+    void testUpdate_RefreshesCachedEntry() throws Exception {
+        empleadoService.findById(empleado.getId());
+
+        EmpleadoDto dto = new EmpleadoDto();
+        dto.setPrimerNombre("JUAN");
+        dto.setPrimerApellido("PEREZ");
+        dto.setSegundoApellido("GOMEZ");
+        dto.setNumeroIdentificacion("456");
+        dto.setIdPais(empleado.getPais().getId());
+        dto.setIdArea(empleado.getArea().getId());
+        dto.setIdTipoIdentificacion(empleado.getTipoIdentificacion().getId());
+        empleadoService.update(empleado.getId(), dto);
+        statistics.clear();
+
+        Empleado encontrado = empleadoService.findById(empleado.getId()).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals("GOMEZ", encontrado.getSegundoApellido());
+        assertEquals("456", encontrado.getNumeroIdentificacion());
+    }
+
+    @Test
+    void testDeleteById_EvictsCachedEntry() {
+        empleadoService.findById(empleado.getId());
+
+        empleadoService.deleteById(empleado.getId());
+
+        assertTrue(empleadoService.findById(empleado.getId()).isEmpty());
+    }
+
+    @Test
+    void testConteoEstimado_EvictedOnlyAfterCommit() {
+        assertEquals(1, empleadoService.findAllConteoEstimado(new EmpleadoDto(), 0, 10).getTotalElementos());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            empleadoService.deleteById(empleado.getId());
+            status.setRollbackOnly();
+        });
+        statistics.clear();
+        assertEquals(1, empleadoService.findAllConteoEstimado(new EmpleadoDto(), 0, 10).getTotalElementos());
+        assertEquals(1, statistics.getPrepareStatementCount(), "la escritura revertida no vacía la caché");
+
+        empleadoService.deleteById(empleado.getId());
+        statistics.clear();
+        assertEquals(0, empleadoService.findAllConteoEstimado(new EmpleadoDto(), 0, 10).getTotalElementos());
+        assertEquals(2, statistics.getPrepareStatementCount(), "conteo recalculado tras confirmar la escritura");
+    }
+}
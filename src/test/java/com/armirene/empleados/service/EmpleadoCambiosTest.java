@@ -0,0 +1,268 @@
+package com.armirene.empleados.service;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.armirene.empleados.domain.CambioEmpleadoService;
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.dto.CambioEmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoParcialDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.CambioEmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+import com.armirene.empleados.infrastructure.util.enums.TipoCambio;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmpleadoCambiosTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private CambioEmpleadoService cambioEmpleadoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private CambioEmpleadoRepository cambioEmpleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    private Pais pais;
+
+    private Area area;
+
+    private TipoIdentificacion tipoIdentificacion;
+
+    private long inicio;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        pais = paisRepository.save(pais);
+        area = new Area();
+        area.setNombre("SISTEMAS");
+        area = areaRepository.save(area);
+        tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+        tipoIdentificacion = tipoIdentificacionRepository.save(tipoIdentificacion);
+        // Publica lo que hayan registrado otras pruebas y empieza después.
+        while (cambioEmpleadoService.publicar() > 0) {
+        }
+        inicio = cambioEmpleadoService.obtenerUltimaPosicion();
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testEscrituras_PublishedInOrder() {
+        Empleado primero = crear("1");
+        Empleado segundo = crear("2");
+        EmpleadoParcialDto cambios = new EmpleadoParcialDto();
+        cambios.setSegundoApellido("GOMEZ");
+        cambios.setVersion(primero.getVersion());
+        empleadoService.actualizarParcial(primero.getId(), cambios);
+        empleadoService.deleteById(segundo.getId());
+
+        EmpleadoDto filtro = new EmpleadoDto();
+        filtro.setIdArea(area.getId());
+        OperacionMasivaDto operacion = new OperacionMasivaDto();
+        operacion.setFiltro(filtro);
+        operacion.setEstado("INACTIVO");
+        empleadoService.cambiarEstado(operacion);
+
+        assertTrue(cambioEmpleadoService.buscar(inicio, 100).isEmpty(), "sin publicar todavía");
+        cambioEmpleadoService.difundir();
+
+        List<CambioEmpleadoDto> publicados = cambioEmpleadoService.buscar(inicio, 100);
+        assertEquals(List.of("CREADO", "CREADO", "ACTUALIZADO", "ELIMINADO", "ACTUALIZADO"),
+                publicados.stream().map(CambioEmpleadoDto::getTipo).toList());
+        assertEquals(List.of(primero.getId(), segundo.getId(), primero.getId(), segundo.getId(), primero.getId()),
+                publicados.stream().map(CambioEmpleadoDto::getIdEmpleado).toList());
+        for (int i = 0; i < publicados.size(); i++) {
+            assertEquals(inicio + i + 1, publicados.get(i).getPosicion(), "posiciones consecutivas");
+        }
+        assertEquals(List.of(0L, 0L, 1L, 0L, 2L), publicados.stream().map(CambioEmpleadoDto::getVersion).toList());
+        assertEquals(2L, empleadoRepository.findById(primero.getId()).orElseThrow().getVersion());
+        assertEquals(List.of(), cambioEmpleadoService.buscar(inicio + publicados.size(), 100));
+    }
+
+    @Test
+    void testPublicacion_FollowsCommitOrder() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch registrado = new CountDownLatch(1);
+        CountDownLatch confirmar = new CountDownLatch(1);
+        try {
+            Future<?> lenta = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                cambioEmpleadoService.registrar(empleado(1001L), TipoCambio.ACTUALIZADO);
+                registrado.countDown();
+                try {
+                    confirmar.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(registrado.await(10, TimeUnit.SECONDS));
+            cambioEmpleadoService.registrar(empleado(1002L), TipoCambio.ACTUALIZADO);
+
+            assertEquals(1, cambioEmpleadoService.publicar(), "el cambio sin confirmar no se publica");
+            confirmar.countDown();
+            lenta.get(10, TimeUnit.SECONDS);
+            assertEquals(1, cambioEmpleadoService.publicar());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<CambioEmpleadoDto> publicados = cambioEmpleadoService.buscar(inicio, 100);
+        assertEquals(List.of(1002L, 1001L), publicados.stream().map(CambioEmpleadoDto::getIdEmpleado).toList(),
+                "el ID de registro menor se publica después, al confirmarse");
+        assertEquals(inicio + 2, publicados.get(1).getPosicion());
+    }
+
+    @Test
+    void testEventos_ResumeFromLastEventId() throws Exception {
+        Empleado primero = crear("1");
+        cambioEmpleadoService.difundir();
+
+        MvcResult resultado = mockMvc.perform(get("/empleados/cambios")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", inicio))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String eventos = resultado.getResponse().getContentAsString();
+        assertTrue(eventos.contains("id:" + (inicio + 1)), eventos);
+        assertTrue(eventos.contains("\"idEmpleado\":" + primero.getId()), eventos);
+
+        Empleado segundo = crear("2");
+        cambioEmpleadoService.difundir();
+        eventos = resultado.getResponse().getContentAsString();
+        assertTrue(eventos.contains("id:" + (inicio + 2)), eventos);
+        assertTrue(eventos.contains("\"idEmpleado\":" + segundo.getId()), eventos);
+        assertTrue(eventos.contains("\"tipo\":\"CREADO\""), eventos);
+
+        resultado.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    void testConsulta_WaitsForNewChanges() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/empleados/cambios")
+                .param("desde", String.valueOf(inicio))
+                .param("espera", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Empleado empleado = crear("1");
+        cambioEmpleadoService.difundir();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].posicion").value(inicio + 1))
+                .andExpect(jsonPath("$[0].idEmpleado").value(empleado.getId()))
+                .andExpect(jsonPath("$[0].tipo").value("CREADO"));
+    }
+
+    @Test
+    void testConsulta_PurgedPositionIsGone() throws Exception {
+        crear("1");
+        crear("2");
+        cambioEmpleadoService.difundir();
+        assertEquals(0, cambioEmpleadoService.depurar(), "los cambios recientes se conservan");
+
+        cambioEmpleadoRepository.deleteAll(cambioEmpleadoRepository.findAll().stream()
+                .filter(cambio -> cambio.getPosicion() != null && cambio.getPosicion() <= inicio + 1)
+                .toList());
+
+        mockMvc.perform(get("/empleados/cambios").param("desde", String.valueOf(inicio)))
+                .andExpect(status().isGone())
+                .andExpect(content().string(containsString("ya no se conservan")));
+        MvcResult resultado = mockMvc.perform(get("/empleados/cambios").param("desde", String.valueOf(inicio + 1)))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/empleados/cambios").param("desde", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Empleado crear(String numeroIdentificacion) {
+        EmpleadoDto empleadoDto = new EmpleadoDto();
+        empleadoDto.setPrimerNombre("JUAN");
+        empleadoDto.setPrimerApellido("PEREZ");
+        empleadoDto.setSegundoApellido("LOPEZ");
+        empleadoDto.setNumeroIdentificacion(numeroIdentificacion);
+        empleadoDto.setIdTipoIdentificacion(tipoIdentificacion.getId());
+        empleadoDto.setIdPais(pais.getId());
+        empleadoDto.setIdArea(area.getId());
+        empleadoDto.setFechaIngreso(new Date());
+        return empleadoService.save(empleadoDto, null);
+    }
+
+    private Empleado empleado(Long id) {
+        Empleado empleado = new Empleado();
+        empleado.setId(id);
+        empleado.setVersion(0L);
+        return empleado;
+    }
+}
@@ -0,0 +1,157 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoParcialDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmpleadoEdicionParcialTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    private Empleado empleado;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        Pais pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        Area area = new Area();
+        area.setNombre("SISTEMAS");
+        TipoIdentificacion tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+
+        empleado = new Empleado();
+        empleado.setPrimerNombre("JUAN");
+        empleado.setPrimerApellido("PEREZ");
+        empleado.setSegundoApellido("LOPEZ");
+        empleado.setOtrosNombres("CARLOS");
+        empleado.setNumeroIdentificacion("123");
+        empleado.setCorreo("juan.perez@tuarmi.com.co");
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setPais(paisRepository.save(pais));
+        empleado.setArea(areaRepository.save(area));
+        empleado.setTipoIdentificacion(tipoIdentificacionRepository.save(tipoIdentificacion));
+        empleado = empleadoRepository.save(empleado);
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testActualizarParcial_KeepsUntouchedFieldsAndEmail() {
+        EmpleadoParcialDto cambios = new EmpleadoParcialDto();
+        cambios.setSegundoApellido("GOMEZ");
+        cambios.setOtrosNombres("");
+        cambios.setVersion(empleado.getVersion());
+
+        Empleado actualizado = empleadoService.actualizarParcial(empleado.getId(), cambios).orElseThrow();
+
+        assertEquals(empleado.getVersion() + 1, actualizado.getVersion());
+        Empleado guardado = empleadoRepository.findById(empleado.getId()).orElseThrow();
+        assertEquals("GOMEZ", guardado.getSegundoApellido());
+        assertNull(guardado.getOtrosNombres());
+        assertEquals("123", guardado.getNumeroIdentificacion());
+        assertEquals("juan.perez@tuarmi.com.co", guardado.getCorreo());
+        assertNotNull(guardado.getFechaEdicion());
+        assertEquals(0, correoSecuenciaRepository.count(), "el correo no se regenera");
+    }
+
+    @Test
+    void testActualizarParcial_NameChange_RegeneratesEmail() {
+        EmpleadoParcialDto cambios = new EmpleadoParcialDto();
+        cambios.setPrimerNombre("ANA");
+        cambios.setVersion(empleado.getVersion());
+
+        Empleado actualizado = empleadoService.actualizarParcial(empleado.getId(), cambios).orElseThrow();
+
+        assertEquals("ana.perez@tuarmi.com.co", actualizado.getCorreo());
+    }
+
+    @Test
+    void testActualizarParcial_NoChanges_NoWrite() {
+        EmpleadoParcialDto cambios = new EmpleadoParcialDto();
+        cambios.setSegundoApellido("LOPEZ");
+        cambios.setVersion(empleado.getVersion());
+
+        Empleado actualizado = empleadoService.actualizarParcial(empleado.getId(), cambios).orElseThrow();
+
+        assertEquals(empleado.getVersion(), actualizado.getVersion());
+        assertNull(actualizado.getFechaEdicion());
+    }
+
+    @Test
+    void testActualizarParcial_StaleVersion_Conflict() throws Exception {
+        EmpleadoParcialDto cambios = new EmpleadoParcialDto();
+        cambios.setSegundoApellido("GOMEZ");
+        cambios.setVersion(empleado.getVersion());
+        empleadoService.actualizarParcial(empleado.getId(), cambios);
+
+        EmpleadoParcialDto obsoletos = new EmpleadoParcialDto();
+        obsoletos.setSegundoApellido("DIAZ");
+        obsoletos.setVersion(empleado.getVersion());
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> empleadoService.actualizarParcial(empleado.getId(), obsoletos));
+        mockMvc.perform(patch("/editarEmpleado/" + empleado.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"segundoApellido\":\"DIAZ\",\"version\":" + empleado.getVersion() + "}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.statusError").value("409 CONFLICT"));
+        assertEquals("GOMEZ", empleadoRepository.findById(empleado.getId()).orElseThrow().getSegundoApellido());
+    }
+}
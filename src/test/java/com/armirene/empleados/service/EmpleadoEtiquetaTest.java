@@ -0,0 +1,244 @@
+package com.armirene.empleados.service;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmpleadoEtiquetaTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Pais pais;
+
+    private Area area;
+
+    private TipoIdentificacion tipoIdentificacion;
+
+    private Empleado empleado;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        pais = paisRepository.save(pais);
+        area = new Area();
+        area.setNombre("SISTEMAS");
+        area = areaRepository.save(area);
+        tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+        tipoIdentificacion = tipoIdentificacionRepository.save(tipoIdentificacion);
+        empleado = empleadoService.save(crearDto("JUAN"), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testEmpleado_NotModifiedUntilWrite() throws Exception {
+        String etiqueta = mockMvc.perform(get("/empleados/" + empleado.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.primerNombre").value("JUAN"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etiqueta);
+        assertFalse(etiqueta.startsWith("W/"), "etiqueta fuerte");
+
+        mockMvc.perform(get("/empleados/" + empleado.getId()).header(HttpHeaders.IF_NONE_MATCH, etiqueta))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        String nueva = mockMvc.perform(patch("/editarEmpleado/" + empleado.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"segundoApellido\":\"GOMEZ\",\"version\":" + empleado.getVersion() + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etiqueta, nueva);
+
+        mockMvc.perform(get("/empleados/" + empleado.getId()).header(HttpHeaders.IF_NONE_MATCH, etiqueta))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, nueva))
+                .andExpect(jsonPath("$.segundoApellido").value("GOMEZ"));
+        mockMvc.perform(get("/empleados/-1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testListado_NotModifiedUntilPageChanges() throws Exception {
+        String etiqueta = mockMvc.perform(get("/empleados").param("idPais", pais.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etiqueta);
+
+        mockMvc.perform(get("/empleados").param("idPais", pais.getId().toString())
+                .header(HttpHeaders.IF_NONE_MATCH, etiqueta))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        empleadoService.save(crearDto("PEDRO"), null);
+
+        mockMvc.perform(get("/empleados").param("idPais", pais.getId().toString())
+                .header(HttpHeaders.IF_NONE_MATCH, etiqueta))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido.length()").value(2));
+    }
+
+    @Test
+    void testEtiqueta_DependsOnRepresentation() throws Exception {
+        String json = mockMvc.perform(get("/empleados"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cbor = mockMvc.perform(get("/empleados").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(json, cbor);
+
+        mockMvc.perform(get("/empleados").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/empleados").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified());
+
+        String empleadoCbor = mockMvc.perform(get("/empleados/" + empleado.getId())
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(mockMvc.perform(get("/empleados/" + empleado.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG), empleadoCbor);
+        mockMvc.perform(put("/editarEmpleado/" + empleado.getId())
+                .header(HttpHeaders.IF_MATCH, empleadoCbor)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(crearDto("PEDRO"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testCatalogo_EtiquetaFollowsContents() throws Exception {
+        String etiqueta = mockMvc.perform(get("/obtenerPaises"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etiqueta, mockMvc.perform(get("/obtenerPaises").accept(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+        mockMvc.perform(get("/obtenerPaises").header(HttpHeaders.IF_NONE_MATCH, etiqueta))
+                .andExpect(status().isNotModified());
+
+        pais.setNombre("COLOMBIA (REPUBLICA DE)");
+        paisRepository.save(pais);
+        cacheManager.getCache("paises").clear();
+
+        String nueva = mockMvc.perform(get("/obtenerPaises").header(HttpHeaders.IF_NONE_MATCH, etiqueta))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etiqueta, nueva);
+    }
+
+    @Test
+    void testEditar_IfMatchRejectsStaleVersion() throws Exception {
+        String etiqueta = mockMvc.perform(get("/empleados/" + empleado.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String nueva = mockMvc.perform(put("/editarEmpleado/" + empleado.getId())
+                .header(HttpHeaders.IF_MATCH, etiqueta)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(crearDto("PEDRO"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.primerNombre").value("PEDRO"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etiqueta, nueva);
+
+        mockMvc.perform(put("/editarEmpleado/" + empleado.getId())
+                .header(HttpHeaders.IF_MATCH, etiqueta)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(crearDto("LUIS"))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.statusError").value("412 PRECONDITION_FAILED"));
+        assertEquals("PEDRO", empleadoRepository.findById(empleado.getId()).orElseThrow().getPrimerNombre());
+
+        mockMvc.perform(put("/editarEmpleado/-1")
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(crearDto("LUIS"))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private EmpleadoDto crearDto(String primerNombre) {
+        EmpleadoDto empleadoDto = new EmpleadoDto();
+        empleadoDto.setPrimerNombre(primerNombre);
+        empleadoDto.setOtrosNombres("CARLOS");
+        empleadoDto.setPrimerApellido("PEREZ");
+        empleadoDto.setSegundoApellido("LOPEZ");
+        empleadoDto.setNumeroIdentificacion(primerNombre);
+        empleadoDto.setIdTipoIdentificacion(tipoIdentificacion.getId());
+        empleadoDto.setIdPais(pais.getId());
+        empleadoDto.setIdArea(area.getId());
+        empleadoDto.setFechaIngreso(new Date());
+        return empleadoDto;
+    }
+}
@@ -0,0 +1,196 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.armirene.empleados.domain.BusquedaEmpleadoService;
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.domain.PlantillaService;
+import com.armirene.empleados.infrastructure.dto.ImportacionResultadoDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.CambioEmpleado;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.CambioEmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+import com.armirene.empleados.infrastructure.util.LectorEmpleados;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+import com.armirene.empleados.infrastructure.util.enums.FormatoArchivo;
+import com.armirene.empleados.infrastructure.util.enums.TipoCambio;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+class EmpleadoImportacionTest {
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    @Autowired
+    private CambioEmpleadoRepository cambioEmpleadoRepository;
+
+    @Autowired
+    private BusquedaEmpleadoService busquedaEmpleadoService;
+
+    @Autowired
+    private PlantillaService plantillaService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String catalogos;
+
+    private Integer idPais;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        Pais pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        Area area = new Area();
+        area.setNombre("SISTEMAS");
+        TipoIdentificacion tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+        idPais = paisRepository.save(pais).getId();
+        catalogos = "\"idPais\":" + idPais
+                + ",\"idArea\":" + areaRepository.save(area).getId()
+                + ",\"idTipoIdentificacion\":" + tipoIdentificacionRepository.save(tipoIdentificacion).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testImportar_Ndjson_ReportsErrorsPerLine() throws Exception {
+        String hoy = LocalDate.now().toString();
+        String ndjson = linea("JUAN", "PEREZ", "1", hoy) + "\n"
+                + linea("JU4N", "PEREZ", "2", hoy) + "\n"
+                + "{no es json\n"
+                + "\n"
+                + linea("JUAN", "PEREZ", "3", hoy) + "\n";
+
+        ImportacionResultadoDto resultado = importar(ndjson, FormatoArchivo.NDJSON);
+
+        assertEquals(4, resultado.getLineasProcesadas());
+        assertEquals(2, resultado.getImportados());
+        assertEquals(2, resultado.getTotalErrores());
+        assertEquals(Set.of(2L, 3L), resultado.getErrores().stream()
+                .map(ImportacionResultadoDto.ErrorLinea::getLinea)
+                .collect(Collectors.toSet()));
+        assertTrue(empleadoRepository.existsByCorreo("juan.perez@tuarmi.com.co"));
+        assertTrue(empleadoRepository.existsByCorreo("juan.perez.1@tuarmi.com.co"));
+    }
+
+    @Test
+    void testImportar_DuplicateInBatch_RetriedRowsRecordChanges() throws Exception {
+        String hoy = LocalDate.now().toString();
+        String ndjson = linea("JUAN", "PEREZ", "20", hoy) + "\n"
+                + linea("PEDRO", "GOMEZ", "21", hoy) + "\n"
+                + linea("LUIS", "DIAZ", "20", hoy) + "\n";
+
+        ImportacionResultadoDto resultado = importar(ndjson, FormatoArchivo.NDJSON);
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(List.of(3L), resultado.getErrores().stream()
+                .map(ImportacionResultadoDto.ErrorLinea::getLinea).toList());
+        Set<Long> ids = empleadoRepository.findAll().stream().map(Empleado::getId).collect(Collectors.toSet());
+        assertEquals(2, ids.size());
+        assertFalse(ids.contains(null));
+        assertEquals(ids, cambioEmpleadoRepository.findAll().stream()
+                .filter(cambio -> TipoCambio.CREADO.name().equals(cambio.getTipo()))
+                .map(CambioEmpleado::getIdEmpleado)
+                .filter(ids::contains)
+                .collect(Collectors.toSet()), "un cambio CREADO por cada empleado importado");
+        for (Empleado empleado : empleadoRepository.findAll()) {
+            assertTrue(busquedaEmpleadoService.buscar(empleado.getCorreo(), 10).contains(empleado.getId()),
+                    "indexado: " + empleado.getCorreo());
+        }
+        assertEquals(2, plantillaService.contar(List.of(DimensionPlantilla.PAIS), idPais, null, null).get(0)
+                .getCantidad());
+    }
+
+    @Test
+    void testImportar_Csv() throws Exception {
+        String[] ids = catalogos.replaceAll("\"\\w+\":", "").split(",");
+        String csv = "primerNombre,otrosNombres,primerApellido,segundoApellido,numeroIdentificacion,fechaIngreso,idPais,idArea,idTipoIdentificacion\n"
+                + "ANA,MARIA,RUIZ,DIAZ,10," + LocalDate.now() + "," + String.join(",", ids) + "\n"
+                + "ANA,MARIA,RUIZ,DIAZ,11," + LocalDate.now() + "," + String.join(",", ids) + "\n";
+
+        ImportacionResultadoDto resultado = importar(csv, FormatoArchivo.CSV);
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(0, resultado.getTotalErrores());
+        assertTrue(resultado.getFilasPorSegundo() > 0);
+        assertTrue(empleadoRepository.existsByCorreo("ana.ruiz.1@tuarmi.com.co"));
+    }
+
+    @Test
+    void testImportar_Csv_QuotedHeaderBomAndMultilineField() throws Exception {
+        String[] ids = catalogos.replaceAll("\"\\w+\":", "").split(",");
+        String catalogosCsv = String.join(",", ids);
+        String hoy = LocalDate.now().toString();
+        String csv = "\uFEFF\"primerNombre\",\"otrosNombres\",\"primerApellido\",\"segundoApellido\","
+                + "\"numeroIdentificacion\",\"fechaIngreso\",\"idPais\",\"idArea\",\"idTipoIdentificacion\"\r\n"
+                + "ANA,MARIA,RUIZ,DIAZ,30," + hoy + "," + catalogosCsv + "\r\n"
+                + "ANA,\"MARIA\r\nJOSE\",RUIZ,DIAZ,31," + hoy + "," + catalogosCsv + "\r\n"
+                + "ANA,MARIA,RUIZ,DIAZ,32,ayer," + catalogosCsv + "\r\n"
+                + "\r\n"
+                + "\"ANA\",\"MARIA\",\"RUIZ\",\"DIAZ\",\"33\",\"" + hoy + "\"," + catalogosCsv + "\r\n";
+
+        ImportacionResultadoDto resultado = importar(csv, FormatoArchivo.CSV);
+
+        assertEquals(2, resultado.getImportados());
+        assertEquals(List.of(3L, 5L), resultado.getErrores().stream()
+                .map(ImportacionResultadoDto.ErrorLinea::getLinea).sorted().toList());
+        assertTrue(empleadoRepository.existsByCorreo("ana.ruiz.1@tuarmi.com.co"));
+        assertThrows(IllegalArgumentException.class, () -> importar("", FormatoArchivo.CSV));
+    }
+
+    private ImportacionResultadoDto importar(String contenido, FormatoArchivo formato) throws Exception {
+        return empleadoService.importar(new LectorEmpleados(
+                new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8)), formato, objectMapper));
+    }
+
+    private String linea(String nombre, String apellido, String identificacion, String fechaIngreso) {
+        return "{\"primerNombre\":\"" + nombre + "\",\"otrosNombres\":\"LUIS\",\"primerApellido\":\"" + apellido
+                + "\",\"segundoApellido\":\"LOPEZ\",\"numeroIdentificacion\":\"" + identificacion
+                + "\",\"fechaIngreso\":\"" + fechaIngreso + "\"," + catalogos + "}";
+    }
+}
@@ -0,0 +1,113 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+
+@SpringBootTest
+class EmpleadoIndicesTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    private Pais pais;
+
+    @BeforeEach
+    void setUp() {
+        pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        pais = paisRepository.save(pais);
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        paisRepository.deleteAll();
+    }
+
+    @Test
+    void testMigraciones_Applied() {
+        List<String> versiones = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"version\" IS NOT NULL ORDER BY \"installed_rank\"",
+                String.class);
+
+        assertEquals(List.of("1", "1.1", "1.2", "1.3", "1.4", "2", "4", "5"), versiones,
+                "las migraciones 1.5 y 3 son solo para PostgreSQL");
+    }
+
+    @Test
+    void testFiltrosListado_UseIndexes() {
+        assertPlanUsa("ix_empleado_primer_nombre_id", "primer_nombre = 'JUAN' ORDER BY id");
+        assertPlanUsa("ix_empleado_primer_apellido_id", "primer_apellido = 'PEREZ' ORDER BY id");
+        assertPlanUsa("ix_empleado_estado_id", "estado = 'ACTIVO' ORDER BY id");
+        assertPlanUsa("ix_empleado_pais_estado_id", "id_pais = 1 AND estado = 'ACTIVO' ORDER BY id");
+        // En H2 las claves foráneas ya tienen su propio índice, con el mismo costo.
+        assertPlanSinRecorrido("id_pais = 1");
+        assertPlanSinRecorrido("id_tipo_identificacion = 1");
+        assertPlanSinRecorrido("id_area = 1");
+        assertPlanUsa("uq_empleado_correo", "correo = 'juan.perez@tuarmi.com.co'");
+        assertPlanUsa("uq_empleado_numero_identificacion", "numero_identificacion = '123'");
+    }
+
+    @Test
+    void testUnicidad_CorreoYNumeroIdentificacion() {
+        empleadoRepository.save(empleado("juan.perez@tuarmi.com.co", "123"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> empleadoRepository.save(empleado("juan.perez@tuarmi.com.co", "456")));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> empleadoRepository.save(empleado("juan.perez.1@tuarmi.com.co", "123")));
+        empleadoRepository.save(empleado(null, null));
+        empleadoRepository.save(empleado(null, null));
+        assertEquals(3, empleadoRepository.count());
+    }
+
+    private void assertPlanUsa(String indice, String condicion) {
+        String plan = plan(condicion);
+        assertTrue(plan.contains(indice), () -> condicion + " no usa " + indice + ":\n" + plan);
+    }
+
+    private void assertPlanSinRecorrido(String condicion) {
+        String plan = plan(condicion);
+        assertFalse(plan.contains("tableScan"), () -> condicion + " recorre la tabla:\n" + plan);
+    }
+
+    private String plan(String condicion) {
+        return jdbcTemplate.queryForObject("EXPLAIN SELECT id FROM empleado WHERE " + condicion, String.class);
+    }
+
+    private Empleado empleado(String correo, String numeroIdentificacion) {
+        Empleado empleado = new Empleado();
+        empleado.setPrimerNombre("JUAN");
+        empleado.setPrimerApellido("PEREZ");
+        empleado.setSegundoApellido("LOPEZ");
+        empleado.setCorreo(correo);
+        empleado.setNumeroIdentificacion(numeroIdentificacion);
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setPais(pais);
+        return empleado;
+    }
+}
@@ -0,0 +1,288 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.transaction.BeforeTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.armirene.empleados.domain.ConteoEmpleadoService;
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.dto.PaginaDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+import com.armirene.empleados.infrastructure.util.CursorUtil;
+import com.armirene.empleados.infrastructure.util.EscritorEmpleados;
+import com.armirene.empleados.infrastructure.util.enums.FormatoArchivo;
+import com.armirene.empleados.infrastructure.util.enums.OrdenCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@Transactional
+class EmpleadoListadoTest {
+
+    private static final int TOTAL_EMPLEADOS = 30;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private ConteoEmpleadoService conteoEmpleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Pais colombia;
+
+    @BeforeTransaction
+    void limpiarConteos() {
+        conteoEmpleadoService.limpiarCache();
+    }
+
+    @BeforeEach
+    void setUp() {
+        colombia = paisRepository.save(pais("CO", "COLOMBIA"));
+        Pais venezuela = paisRepository.save(pais("VE", "VENEZUELA"));
+        Area sistemas = areaRepository.save(area("SISTEMAS"));
+        Area nomina = areaRepository.save(area("NOMINA"));
+        TipoIdentificacion cedula = tipoIdentificacionRepository.save(tipoIdentificacion("CC"));
+        TipoIdentificacion pasaporte = tipoIdentificacionRepository.save(tipoIdentificacion("PA"));
+
+        for (int i = 0; i < TOTAL_EMPLEADOS; i++) {
+            Empleado empleado = new Empleado();
+            empleado.setPrimerNombre("JUAN");
+            empleado.setPrimerApellido(i % 4 == 0 ? "GOMEZ" : "PEREZ");
+            empleado.setSegundoApellido("LOPEZ");
+            empleado.setNumeroIdentificacion("ID" + i);
+            empleado.setCorreo("juan.perez." + i + "@tuarmi.com.co");
+            empleado.setEstado("ACTIVO");
+            empleado.setFechaIngreso(new Date());
+            empleado.setFechaRegistro(new Timestamp(1_700_000_000_000L + (i % 7) * 1000L));
+            empleado.setPais(i % 2 == 0 ? colombia : venezuela);
+            empleado.setArea(i % 3 == 0 ? sistemas : nomina);
+            empleado.setTipoIdentificacion(i % 5 == 0 ? pasaporte : cedula);
+            empleadoRepository.save(empleado);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindAll_ConstantStatementsPerPage() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int size : new int[] { 5, 10, 15 }) {
+            for (int page = 0; page < 2; page++) {
+                statistics.clear();
+
+                Page<EmpleadoResumenDto> resultado = empleadoService.findAll(new EmpleadoDto(), page, size);
+
+                assertEquals(size, resultado.getNumberOfElements());
+                assertEquals(2, statistics.getPrepareStatementCount(), "consulta de datos y conteo");
+                assertEquals(0, statistics.getEntityLoadCount());
+            }
+        }
+    }
+
+    @Test
+    void testFindAll_FilterByPais() {
+        EmpleadoDto filter = new EmpleadoDto();
+        filter.setIdPais(colombia.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<EmpleadoResumenDto> resultado = empleadoService.findAll(filter, 0, 10);
+
+        assertEquals(TOTAL_EMPLEADOS / 2, resultado.getTotalElements());
+        assertTrue(resultado.getContent().stream().allMatch(empleado -> "COLOMBIA".equals(empleado.getPais())));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllSinConteo_SingleStatementAndNextFlag() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PaginaDto<EmpleadoResumenDto> primera = empleadoService.findAllSinConteo(new EmpleadoDto(), 0, 10);
+        PaginaDto<EmpleadoResumenDto> ultima = empleadoService.findAllSinConteo(new EmpleadoDto(), 2, 10);
+
+        assertEquals(2, statistics.getPrepareStatementCount(), "una consulta por página, sin conteo");
+        assertEquals(10, primera.getContenido().size());
+        assertTrue(primera.getHaySiguiente());
+        assertNull(primera.getTotalElementos());
+        assertEquals(10, ultima.getContenido().size());
+        assertFalse(ultima.getHaySiguiente());
+    }
+
+    @Test
+    void testFindAllConteoEstimado_CountsOncePerFilterUntilWrite() {
+        EmpleadoDto filter = new EmpleadoDto();
+        filter.setIdPais(colombia.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        PaginaDto<EmpleadoResumenDto> primera = empleadoService.findAllConteoEstimado(filter, 0, 10);
+        assertEquals(2, statistics.getPrepareStatementCount(), "datos y conteo");
+        assertEquals(TOTAL_EMPLEADOS / 2, primera.getTotalElementos());
+        assertEquals(2, primera.getTotalPaginas());
+        assertTrue(primera.getTotalEstimado());
+
+        statistics.clear();
+        PaginaDto<EmpleadoResumenDto> segunda = empleadoService.findAllConteoEstimado(filter, 1, 10);
+        assertEquals(1, statistics.getPrepareStatementCount(), "conteo en caché");
+        assertEquals(TOTAL_EMPLEADOS / 2, segunda.getTotalElementos());
+        assertFalse(segunda.getHaySiguiente());
+
+        // La caché se vacía al confirmar la escritura (EmpleadoCacheTest); la
+        // transacción de la prueba no se confirma.
+        empleadoService.deleteById(primera.getContenido().get(0).getId());
+        entityManager.flush();
+        statistics.clear();
+        assertEquals(TOTAL_EMPLEADOS / 2, empleadoService.findAllConteoEstimado(filter, 0, 10).getTotalElementos());
+        assertEquals(1, statistics.getPrepareStatementCount(), "conteo en caché hasta confirmar la escritura");
+    }
+
+    @Test
+    void testFindAllAfter_VisitsEveryRowOnceWithoutCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (String orden : new String[] { "id", "primerApellido", "fechaRegistro" }) {
+            Set<Long> visitados = new HashSet<>();
+            String cursor = null;
+            do {
+                statistics.clear();
+                PaginaDto<EmpleadoResumenDto> pagina = empleadoService.findAllAfter(new EmpleadoDto(), cursor, orden,
+                        7);
+                assertEquals(1, statistics.getPrepareStatementCount(), "sin consulta de conteo");
+                pagina.getContenido().forEach(empleado -> assertTrue(visitados.add(empleado.getId())));
+                cursor = pagina.getSiguienteCursor();
+            } while (cursor != null);
+
+            assertEquals(TOTAL_EMPLEADOS, visitados.size(), orden);
+        }
+    }
+
+    @Test
+    void testFindAllAfter_CursorFromOtherOrder_ShouldThrowException() {
+        String cursor = empleadoService.findAllAfter(new EmpleadoDto(), null, "id", 5).getSiguienteCursor();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> empleadoService.findAllAfter(new EmpleadoDto(), cursor, "primerApellido", 5));
+    }
+
+    @Test
+    void testFindAllAfter_MalformedCursor_ShouldThrowException() {
+        String fechaInvalida = CursorUtil.codificar(OrdenCursor.FECHA_REGISTRO, "ayer", 1L);
+        String idInvalido = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("id|uno|".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> empleadoService.findAllAfter(new EmpleadoDto(), fechaInvalida, "fechaRegistro", 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> empleadoService.findAllAfter(new EmpleadoDto(), idInvalido, "id", 5));
+    }
+
+    @Test
+    void testFindAllAfter_SizeBelowOne_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> empleadoService.findAllAfter(new EmpleadoDto(), null, "id", 0));
+    }
+
+    @Test
+    void testExportar_StreamsFilteredRowsInSingleStatement() throws Exception {
+        EmpleadoDto filter = new EmpleadoDto();
+        filter.setIdPais(colombia.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        long exportados;
+        try (EscritorEmpleados escritor = new EscritorEmpleados(salida, FormatoArchivo.NDJSON, objectMapper)) {
+            exportados = empleadoService.exportar(filter, escritor);
+        }
+
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(TOTAL_EMPLEADOS / 2, exportados);
+        assertEquals(TOTAL_EMPLEADOS / 2, lineas.length);
+        assertEquals("COLOMBIA", objectMapper.readTree(lineas[0]).get("pais").asText());
+        assertFalse(lineas[0].contains("fotoHash"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testExportar_Csv_WritesHeaderAndOneLinePerEmpleado() throws Exception {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        try (EscritorEmpleados escritor = new EscritorEmpleados(salida, FormatoArchivo.CSV, objectMapper)) {
+            empleadoService.exportar(new EmpleadoDto(), escritor);
+        }
+
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(TOTAL_EMPLEADOS + 1, lineas.length);
+        assertTrue(lineas[0].startsWith("id,"));
+    }
+
+    private Pais pais(String codigo, String nombre) {
+        Pais pais = new Pais();
+        pais.setCodigo(codigo);
+        pais.setNombre(nombre);
+        return pais;
+    }
+
+    private Area area(String nombre) {
+        Area area = new Area();
+        area.setNombre(nombre);
+        return area;
+    }
+
+    private TipoIdentificacion tipoIdentificacion(String abrev) {
+        TipoIdentificacion tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev(abrev);
+        tipoIdentificacion.setNombre(abrev);
+        return tipoIdentificacion;
+    }
+}
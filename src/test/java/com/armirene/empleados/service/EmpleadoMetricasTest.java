@@ -0,0 +1,61 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.domain.CorreoService;
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class EmpleadoMetricasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CorreoService correoService;
+
+    @Autowired
+    private FotoService fotoService;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+    }
+
+    @Test
+    void testPrometheus_ExposesApplicationMetrics() throws Exception {
+        mockMvc.perform(get("/empleados")).andExpect(status().isOk());
+        correoService.asignarCorreos("ana.diaz", "tuarmi.com.co", 2);
+        fotoService.guardar(new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 1, 2, 3 });
+
+        String metricas = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(metricas.contains("http_server_requests_seconds_count{"));
+        assertTrue(metricas.contains("empleados_servicio_seconds_count{"));
+        assertTrue(metricas.contains("empleados_sql_sentencias_count{method=\"GET\",uri=\"/empleados\"}"));
+        assertTrue(metricas.contains("empleados_correo_colisiones_count 2"));
+        assertTrue(metricas.contains("empleados_correo_colisiones_asignaciones_total 1.0"));
+        assertTrue(metricas.contains("empleados_foto_bytes_count 1"));
+        assertTrue(metricas.contains("hibernate_statements_total"));
+        assertTrue(metricas.contains("hibernate_entities_loads_total"));
+        assertTrue(metricas.contains("hikaricp_connections_pending"));
+    }
+}
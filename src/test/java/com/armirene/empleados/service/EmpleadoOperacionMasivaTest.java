@@ -0,0 +1,170 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.armirene.empleados.domain.BusquedaEmpleadoService;
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaResultadoDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class EmpleadoOperacionMasivaTest {
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private BusquedaEmpleadoService busquedaEmpleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Area sistemas;
+
+    private final List<Empleado> empleados = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        Pais pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        pais = paisRepository.save(pais);
+        sistemas = new Area();
+        sistemas.setNombre("SISTEMAS");
+        sistemas = areaRepository.save(sistemas);
+        Area nomina = new Area();
+        nomina.setNombre("NOMINA");
+        nomina = areaRepository.save(nomina);
+        TipoIdentificacion tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+        tipoIdentificacion = tipoIdentificacionRepository.save(tipoIdentificacion);
+
+        empleados.clear();
+        for (int i = 0; i < 6; i++) {
+            Empleado empleado = new Empleado();
+            empleado.setPrimerNombre("JUAN");
+            empleado.setPrimerApellido("PEREZ");
+            empleado.setNumeroIdentificacion("ID" + i);
+            empleado.setCorreo("juan.perez." + i + "@tuarmi.com.co");
+            empleado.setEstado("ACTIVO");
+            empleado.setFechaIngreso(new Date());
+            empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+            empleado.setPais(pais);
+            empleado.setArea(i < 4 ? sistemas : nomina);
+            empleado.setTipoIdentificacion(tipoIdentificacion);
+            empleados.add(empleadoRepository.save(empleado));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testCambiarEstado_PorFiltro_SingleStatement() {
+        Long id = empleados.get(0).getId();
+        empleadoService.findById(id);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EmpleadoDto filtro = new EmpleadoDto();
+        filtro.setIdArea(sistemas.getId());
+        OperacionMasivaDto operacion = new OperacionMasivaDto();
+        operacion.setFiltro(filtro);
+        operacion.setEstado("INACTIVO");
+
+        OperacionMasivaResultadoDto resultado = empleadoService.cambiarEstado(operacion);
+
+        assertEquals(4, resultado.getAfectados());
+        assertEquals(1, resultado.getSentencias());
+        assertEquals(2, statistics.getPrepareStatementCount(), "registro de cambios y UPDATE");
+        assertEquals(0, statistics.getEntityLoadCount());
+        Empleado modificado = empleadoService.findById(id).orElseThrow();
+        assertEquals("INACTIVO", modificado.getEstado());
+        assertEquals(resultado.getFechaInicio().getTime(), modificado.getFechaEdicion().getTime());
+        assertEquals("ACTIVO", empleadoService.findById(empleados.get(5).getId()).orElseThrow().getEstado());
+    }
+
+    @Test
+    void testEliminar_PorIds_RemovesFromSearchIndex() {
+        OperacionMasivaDto operacion = new OperacionMasivaDto();
+        operacion.setIds(List.of(empleados.get(0).getId(), empleados.get(1).getId(), -1L));
+
+        OperacionMasivaResultadoDto resultado = empleadoService.eliminar(operacion);
+
+        assertEquals(2, resultado.getAfectados());
+        assertEquals(1, resultado.getSentencias());
+        assertEquals(4, empleadoRepository.count());
+        assertTrue(empleadoService.findById(empleados.get(0).getId()).isEmpty());
+        assertFalse(busquedaEmpleadoService.buscar("juan.perez.0", 10).contains(empleados.get(0).getId()));
+    }
+
+    @Test
+    void testEliminar_PorFiltro() {
+        EmpleadoDto filtro = new EmpleadoDto();
+        filtro.setIdArea(sistemas.getId());
+        OperacionMasivaDto operacion = new OperacionMasivaDto();
+        operacion.setFiltro(filtro);
+
+        OperacionMasivaResultadoDto resultado = empleadoService.eliminar(operacion);
+
+        assertEquals(4, resultado.getAfectados());
+        assertEquals(2, empleadoRepository.count());
+    }
+
+    @Test
+    void testOperacionMasiva_EmptyFilter_Rejected() {
+        OperacionMasivaDto operacion = new OperacionMasivaDto();
+        operacion.setFiltro(new EmpleadoDto());
+        operacion.setEstado("INACTIVO");
+
+        assertThrows(IllegalArgumentException.class, () -> empleadoService.cambiarEstado(operacion));
+        assertThrows(IllegalArgumentException.class, () -> empleadoService.eliminar(operacion));
+        assertEquals(6, empleadoRepository.count());
+    }
+}
@@ -0,0 +1,214 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.YearMonth;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.domain.PlantillaService;
+import com.armirene.empleados.infrastructure.dto.ConteoPlantillaDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoParcialDto;
+import com.armirene.empleados.infrastructure.dto.OperacionMasivaDto;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.ConteoPlantillaRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+import com.armirene.empleados.infrastructure.util.enums.DimensionPlantilla;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmpleadoPlantillaTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private PlantillaService plantillaService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private ConteoPlantillaRepository conteoPlantillaRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    private Pais pais;
+
+    private Area sistemas;
+
+    private Area nomina;
+
+    private TipoIdentificacion tipoIdentificacion;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        conteoPlantillaRepository.deleteAll();
+        pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        pais = paisRepository.save(pais);
+        sistemas = new Area();
+        sistemas.setNombre("SISTEMAS");
+        sistemas = areaRepository.save(sistemas);
+        nomina = new Area();
+        nomina.setNombre("NOMINA");
+        nomina = areaRepository.save(nomina);
+        tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+        tipoIdentificacion = tipoIdentificacionRepository.save(tipoIdentificacion);
+        cacheManager.getCache("paises").clear();
+        cacheManager.getCache("areas").clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        conteoPlantillaRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testEscrituras_UpdateCountsIncrementally() {
+        Empleado primero = crear("1", sistemas);
+        crear("2", sistemas);
+        Empleado tercero = crear("3", nomina);
+        assertEquals(Map.of("SISTEMAS", 2L, "NOMINA", 1L), porArea());
+
+        EmpleadoParcialDto cambios = new EmpleadoParcialDto();
+        cambios.setIdArea(nomina.getId());
+        cambios.setEstado("INACTIVO");
+        cambios.setVersion(primero.getVersion());
+        empleadoService.actualizarParcial(primero.getId(), cambios);
+        empleadoService.deleteById(tercero.getId());
+
+        List<ConteoPlantillaDto> conteos = plantillaService.contar(
+                List.of(DimensionPlantilla.AREA, DimensionPlantilla.ESTADO), null, null, null);
+        assertEquals(2, conteos.size());
+        assertEquals("SISTEMAS", conteos.get(0).getArea());
+        assertEquals("ACTIVO", conteos.get(0).getEstado());
+        assertEquals(1, conteos.get(0).getCantidad());
+        assertEquals("NOMINA", conteos.get(1).getArea());
+        assertEquals("INACTIVO", conteos.get(1).getEstado());
+        assertEquals(1, conteos.get(1).getCantidad());
+
+        List<ConteoPlantillaDto> incrementales = todasLasDimensiones();
+        plantillaService.reconstruir();
+        assertEquals(incrementales, todasLasDimensiones(), "el conteo incremental coincide con el recalculado");
+    }
+
+    @Test
+    void testOperacionMasiva_RebuiltWhenPending() {
+        crear("1", sistemas);
+        crear("2", sistemas);
+        crear("3", nomina);
+
+        EmpleadoDto filtro = new EmpleadoDto();
+        filtro.setIdArea(sistemas.getId());
+        OperacionMasivaDto operacion = new OperacionMasivaDto();
+        operacion.setFiltro(filtro);
+        operacion.setEstado("INACTIVO");
+        empleadoService.cambiarEstado(operacion);
+
+        assertEquals(3, plantillaService.contar(List.of(DimensionPlantilla.ESTADO), null, null, "ACTIVO").get(0)
+                .getCantidad(), "sin reconstruir todavía");
+
+        plantillaService.reconstruirSiPendiente();
+
+        List<ConteoPlantillaDto> conteos = plantillaService.contar(List.of(DimensionPlantilla.ESTADO), null, null,
+                null);
+        assertEquals(2, conteos.size());
+        assertEquals("ACTIVO", conteos.get(0).getEstado());
+        assertEquals(1, conteos.get(0).getCantidad());
+        assertEquals("INACTIVO", conteos.get(1).getEstado());
+        assertEquals(2, conteos.get(1).getCantidad());
+    }
+
+    @Test
+    void testPlantilla_Endpoint() throws Exception {
+        crear("1", sistemas);
+        crear("2", nomina);
+
+        mockMvc.perform(get("/empleados/plantilla")
+                .param("agrupar", "pais,mes")
+                .param("idArea", sistemas.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].pais").value("COLOMBIA"))
+                .andExpect(jsonPath("$[0].mesIngreso").value(YearMonth.now().toString()))
+                .andExpect(jsonPath("$[0].area").doesNotExist())
+                .andExpect(jsonPath("$[0].cantidad").value(1));
+
+        mockMvc.perform(get("/empleados/plantilla").param("agrupar", "correo"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Empleado crear(String numeroIdentificacion, Area area) {
+        EmpleadoDto empleadoDto = new EmpleadoDto();
+        empleadoDto.setPrimerNombre("JUAN");
+        empleadoDto.setPrimerApellido("PEREZ");
+        empleadoDto.setSegundoApellido("LOPEZ");
+        empleadoDto.setNumeroIdentificacion(numeroIdentificacion);
+        empleadoDto.setIdTipoIdentificacion(tipoIdentificacion.getId());
+        empleadoDto.setIdPais(pais.getId());
+        empleadoDto.setIdArea(area.getId());
+        empleadoDto.setFechaIngreso(new Date());
+        return empleadoService.save(empleadoDto, null);
+    }
+
+    private Map<String, Long> porArea() {
+        Map<String, Long> conteos = new LinkedHashMap<>();
+        for (ConteoPlantillaDto conteo : plantillaService.contar(List.of(DimensionPlantilla.AREA), null, null,
+                null)) {
+            conteos.put(conteo.getArea(), conteo.getCantidad());
+        }
+        return conteos;
+    }
+
+    private List<ConteoPlantillaDto> todasLasDimensiones() {
+        return plantillaService.contar(List.of(DimensionPlantilla.PAIS, DimensionPlantilla.AREA,
+                DimensionPlantilla.ESTADO, DimensionPlantilla.MES), null, null, null);
+    }
+}
@@ -0,0 +1,199 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.domain.CambioEmpleadoService;
+import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.infrastructure.config.EnrutamientoDataSource;
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.dto.EmpleadoResumenDto;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.util.ReceptorCambios;
+
+import jakarta.servlet.http.Cookie;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + EmpleadoReplicaTest.URL_PRIMARIO,
+        "empleados.replicas.urls=" + EmpleadoReplicaTest.URL_REPLICA + ";IFEXISTS=TRUE",
+        "empleados.replicas.verificacion=1h",
+        "empleados.replicas.leer-escrituras=5s",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false" })
+@AutoConfigureMockMvc
+class EmpleadoReplicaTest {
+
+    static final String URL_PRIMARIO = "jdbc:h2:mem:primario;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"
+            + ";DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    static final String URL_REPLICA = "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"
+            + ";DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String INSERTAR = "INSERT INTO empleado (id, primer_nombre, primer_apellido,"
+            + " segundo_apellido, estado, version) VALUES (1000000, ?, 'PEREZ', 'LOPEZ', 'ACTIVO', 0)";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private EnrutamientoDataSource enrutamientoDataSource;
+
+    @Autowired
+    private CambioEmpleadoService cambioEmpleadoService;
+
+    private final JdbcTemplate primario = new JdbcTemplate(new DriverManagerDataSource(URL_PRIMARIO, "sa", ""));
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""));
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // La réplica es otra base: se crea con las mismas migraciones y datos distintos
+        // para saber de dónde se leyó cada resultado.
+        Flyway.configure().dataSource(URL_REPLICA, "sa", "").locations("classpath:db/migration/comun").load()
+                .migrate();
+        primario.update(INSERTAR, "PRIMARIO");
+        replica.update(INSERTAR, "REPLICA");
+        esperarReplica();
+        EnrutamientoDataSource.terminarCliente();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primario.update("DELETE FROM empleado");
+        replica.update("DELETE FROM empleado");
+    }
+
+    @Test
+    void testReadOnly_ReadsReplica_WritesGoToPrimary() {
+        assertEquals(List.of("REPLICA"), nombres());
+
+        empleadoRepository.save(empleado());
+
+        assertEquals(2, primario.queryForObject("SELECT count(*) FROM empleado", Integer.class));
+        assertEquals(1, replica.queryForObject("SELECT count(*) FROM empleado", Integer.class));
+    }
+
+    @Test
+    void testReadYourWrites_AfterCommit_ReadsPrimary() {
+        empleadoRepository.save(empleado());
+
+        assertEquals(List.of("ANA", "PRIMARIO"), nombres());
+    }
+
+    @Test
+    void testReadYourWrites_OnlyForWriter_WithSubscriber() throws Exception {
+        ReceptorCambios receptor = cambios -> true;
+        cambioEmpleadoService.suscribir(0, 10, receptor);
+        ExecutorService otroCliente = Executors.newSingleThreadExecutor();
+        try {
+            otroCliente.submit(() -> empleadoRepository.save(empleado())).get(10, TimeUnit.SECONDS);
+            otroCliente.submit(cambioEmpleadoService::difundir).get(10, TimeUnit.SECONDS);
+
+            assertEquals(List.of("REPLICA"), nombres(), "las escrituras de otro cliente no mueven estas lecturas");
+            assertEquals(List.of("ANA", "PRIMARIO"), otroCliente.submit(this::nombres).get(10, TimeUnit.SECONDS));
+        } finally {
+            cambioEmpleadoService.cancelar(receptor);
+            otroCliente.shutdown();
+        }
+    }
+
+    @Test
+    void testReadYourWrites_CookieFollowsClient() throws Exception {
+        Cookie cookie = mockMvc.perform(put("/empleados/1000000/foto")
+                .contentType(MediaType.IMAGE_PNG)
+                .content(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0 }))
+                .andExpect(status().isOk())
+                .andExpect(cookie().httpOnly(EnrutamientoDataSource.COOKIE, true))
+                .andReturn().getResponse().getCookie(EnrutamientoDataSource.COOKIE);
+        assertNotNull(cookie);
+
+        mockMvc.perform(get("/empleados").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido[0].primerNombre").value("PRIMARIO"));
+        mockMvc.perform(get("/empleados"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido[0].primerNombre").value("REPLICA"));
+    }
+
+    @Test
+    void testReplicaDown_FallsBackToPrimary() throws InterruptedException {
+        replica.execute("SHUTDOWN");
+        enrutamientoDataSource.verificarReplicas();
+
+        assertFalse(enrutamientoDataSource.estaDisponible("replica-1"));
+        assertEquals(List.of("PRIMARIO"), nombres());
+
+        Flyway.configure().dataSource(URL_REPLICA, "sa", "").locations("classpath:db/migration/comun").load()
+                .migrate();
+        esperarReplica();
+        assertTrue(enrutamientoDataSource.estaDisponible("replica-1"));
+    }
+
+    @Test
+    void testSolicitud_ReadThenWrite_WritesPrimary() throws Exception {
+        mockMvc.perform(put("/empleados/1000000/foto")
+                .contentType(MediaType.IMAGE_PNG)
+                .content(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0 }))
+                .andExpect(status().isOk());
+
+        assertNotNull(primario.queryForObject("SELECT foto_hash FROM empleado WHERE id = 1000000", String.class));
+        assertNull(replica.queryForObject("SELECT foto_hash FROM empleado WHERE id = 1000000", String.class));
+    }
+
+    /**
+     * El pool de la réplica reintenta las conexiones con espera creciente, así que
+     * puede tardar un momento en notar que la réplica volvió.
+     */
+    private void esperarReplica() throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        do {
+            enrutamientoDataSource.verificarReplicas();
+        } while (!enrutamientoDataSource.estaDisponible("replica-1") && System.nanoTime() < limite);
+    }
+
+    private List<String> nombres() {
+        return empleadoService.findAll(new EmpleadoDto(), 0, 10).getContent().stream()
+                .map(EmpleadoResumenDto::getPrimerNombre)
+                .toList();
+    }
+
+    private Empleado empleado() {
+        Empleado empleado = new Empleado();
+        empleado.setPrimerNombre("ANA");
+        empleado.setPrimerApellido("GOMEZ");
+        empleado.setSegundoApellido("DIAZ");
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        return empleado;
+    }
+}
@@ -13,17 +13,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.*;
 
 import com.armirene.empleados.application.EmpleadoServiceImpl;
+import com.armirene.empleados.domain.AreaService;
+import com.armirene.empleados.domain.CambioEmpleadoService;
+import com.armirene.empleados.domain.ConteoEmpleadoService;
+import com.armirene.empleados.domain.CorreoService;
 import com.armirene.empleados.domain.EmpleadoService;
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.domain.MiniaturaService;
+import com.armirene.empleados.domain.PaisService;
+import com.armirene.empleados.domain.PlantillaService;
+import com.armirene.empleados.domain.TipoIdentificacionService;
 import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
 import com.armirene.empleados.infrastructure.entity.Area;
 import com.armirene.empleados.infrastructure.entity.Empleado;
 import com.armirene.empleados.infrastructure.entity.Pais;
 import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
 import com.armirene.empleados.infrastructure.exception.EmpleadoException;
-import com.armirene.empleados.infrastructure.repository.AreaRepository;
 import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
-import com.armirene.empleados.infrastructure.repository.PaisRepository;
-import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
 
 @ExtendWith(MockitoExtension.class)
 class EmpleadoServiceImplTest {
@@ -32,13 +38,31 @@ class EmpleadoServiceImplTest {
     private EmpleadoRepository empleadoRepository;
 
     @Mock
-    private TipoIdentificacionRepository tipoIdentificacionRepository;
+    private TipoIdentificacionService tipoIdentificacionService;
 
     @Mock
-    private PaisRepository paisRepository;
+    private PaisService paisService;
 
     @Mock
-    private AreaRepository areaRepository;
+    private AreaService areaService;
+
+    @Mock
+    private CorreoService correoService;
+
+    @Mock
+    private FotoService fotoService;
+
+    @Mock
+    private MiniaturaService miniaturaService;
+
+    @Mock
+    private ConteoEmpleadoService conteoEmpleadoService;
+
+    @Mock
+    private PlantillaService plantillaService;
+
+    @Mock
+    private CambioEmpleadoService cambioEmpleadoService;
 
     @InjectMocks
     private EmpleadoService empleadoService = new EmpleadoServiceImpl();
@@ -62,9 +86,10 @@ class EmpleadoServiceImplTest {
         pais.setNombre("COLOMBIA");
         Area area = new Area();
 
-        when(tipoIdentificacionRepository.findById(1)).thenReturn(Optional.of(tipoIdentificacion));
-        when(paisRepository.findById(2)).thenReturn(Optional.of(pais));
-        when(areaRepository.findById(3)).thenReturn(Optional.of(area));
+        when(tipoIdentificacionService.findById(1)).thenReturn(Optional.of(tipoIdentificacion));
+        when(paisService.findById(2)).thenReturn(Optional.of(pais));
+        when(areaService.findById(3)).thenReturn(Optional.of(area));
+        when(correoService.asignarCorreo("juan.perez", "tuarmi.com.co")).thenReturn("juan.perez@tuarmi.com.co");
         when(empleadoRepository.save(any(Empleado.class))).thenReturn(new Empleado());
 
         Empleado empleadoGuardado = empleadoService.save(empleadoDto, null);
@@ -73,6 +98,36 @@ class EmpleadoServiceImplTest {
         verify(empleadoRepository).save(any(Empleado.class));
     }
 
+    @Test
+    void testSave_WithFoto_StoresHashOnly() {
+
+        EmpleadoDto empleadoDto = new EmpleadoDto();
+        empleadoDto.setPrimerNombre("JUAN");
+        empleadoDto.setOtrosNombres("GADIEL");
+        empleadoDto.setPrimerApellido("PEREZ");
+        empleadoDto.setSegundoApellido("LOPEZ");
+        empleadoDto.setNumeroIdentificacion("123456785");
+        empleadoDto.setIdTipoIdentificacion(1);
+        empleadoDto.setIdPais(2);
+        empleadoDto.setIdArea(3);
+        empleadoDto.setFechaIngreso(new Date());
+        empleadoDto.setFoto(Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3 }));
+
+        Pais pais = new Pais();
+        pais.setNombre("COLOMBIA");
+
+        when(tipoIdentificacionService.findById(1)).thenReturn(Optional.of(new TipoIdentificacion()));
+        when(paisService.findById(2)).thenReturn(Optional.of(pais));
+        when(areaService.findById(3)).thenReturn(Optional.of(new Area()));
+        when(correoService.asignarCorreo("juan.perez", "tuarmi.com.co")).thenReturn("juan.perez@tuarmi.com.co");
+        when(fotoService.guardar(new byte[] { 1, 2, 3 })).thenReturn("abc123");
+        when(empleadoRepository.save(any(Empleado.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Empleado empleadoGuardado = empleadoService.save(empleadoDto, null);
+
+        assertEquals("abc123", empleadoGuardado.getFotoHash());
+    }
+
     @Test
     void testSave_WithInvalidPrimerNombre_ShouldThrowException() {
 
@@ -111,9 +166,9 @@ class EmpleadoServiceImplTest {
         empleadoDto.setIdArea(3);
         empleadoDto.setFechaIngreso(new Date(System.currentTimeMillis() + 86400000));
 
-        when(tipoIdentificacionRepository.findById(1)).thenReturn(Optional.of(new TipoIdentificacion()));
-        when(paisRepository.findById(2)).thenReturn(Optional.of(new Pais()));
-        when(areaRepository.findById(3)).thenReturn(Optional.of(new Area()));
+        when(tipoIdentificacionService.findById(1)).thenReturn(Optional.of(new TipoIdentificacion()));
+        when(paisService.findById(2)).thenReturn(Optional.of(new Pais()));
+        when(areaService.findById(3)).thenReturn(Optional.of(new Area()));
 
         Exception exception = assertThrows(IllegalArgumentException.class, () -> {
             empleadoService.save(empleadoDto, null);
@@ -165,12 +220,14 @@ class EmpleadoServiceImplTest {
         empleadoExistente.setTipoIdentificacion(new TipoIdentificacion());
         empleadoExistente.setPais(new Pais());
 
-        when(empleadoRepository.findById(id)).thenReturn(Optional.of(empleadoExistente));
-        when(empleadoRepository.save(any(Empleado.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
         Pais pais = new Pais();
         pais.setNombre("Colombia");
-        empleadoExistente.setPais(pais);
+
+        when(empleadoRepository.findById(id)).thenReturn(Optional.of(empleadoExistente));
+        when(empleadoRepository.save(any(Empleado.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(correoService.asignarCorreo("juan.perez", "tuarmi.com.co")).thenReturn("juan.perez@tuarmi.com.co");
+        when(tipoIdentificacionService.findById(1)).thenReturn(Optional.of(new TipoIdentificacion()));
+        when(paisService.findById(1)).thenReturn(Optional.of(pais));
 
         Optional<Empleado> resultado = empleadoService.update(id, empleadoDto);
 
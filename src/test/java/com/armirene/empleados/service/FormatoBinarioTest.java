@@ -0,0 +1,118 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FormatoBinarioTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @BeforeEach
+    void setUp() {
+        Pais pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        Area area = new Area();
+        area.setNombre("SISTEMAS");
+        TipoIdentificacion tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+
+        Empleado empleado = new Empleado();
+        empleado.setPrimerNombre("JUAN");
+        empleado.setPrimerApellido("PEREZ");
+        empleado.setSegundoApellido("LOPEZ");
+        empleado.setNumeroIdentificacion("123");
+        empleado.setCorreo("juan.perez@tuarmi.com.co");
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setPais(paisRepository.save(pais));
+        empleado.setArea(areaRepository.save(area));
+        empleado.setTipoIdentificacion(tipoIdentificacionRepository.save(tipoIdentificacion));
+        empleadoRepository.save(empleado);
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testEmpleados_Cbor_SameFieldsAsJson() throws Exception {
+        JsonNode json = objectMapper.readTree(obtener("/empleados", MediaType.APPLICATION_JSON));
+        byte[] cbor = obtener("/empleados", MediaType.APPLICATION_CBOR);
+
+        assertEquals(json, new CBORMapper().readTree(cbor));
+        assertEquals("JUAN", json.at("/contenido/0/primerNombre").asText());
+        mockMvc.perform(get("/empleados"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testObtenerPaises_Smile_SameFieldsAsJson() throws Exception {
+        JsonNode json = objectMapper.readTree(obtener("/obtenerPaises", MediaType.APPLICATION_JSON));
+        byte[] smile = obtener("/obtenerPaises", SMILE);
+
+        assertEquals(json, new SmileMapper().readTree(smile));
+        mockMvc.perform(get("/obtenerPaises").accept(SMILE))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    private byte[] obtener(String uri, MediaType tipo) throws Exception {
+        return mockMvc.perform(get(uri).accept(tipo))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(tipo))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
@@ -0,0 +1,207 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.infrastructure.entity.Area;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.entity.Pais;
+import com.armirene.empleados.infrastructure.entity.TipoIdentificacion;
+import com.armirene.empleados.infrastructure.repository.AreaRepository;
+import com.armirene.empleados.infrastructure.repository.CorreoSecuenciaRepository;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+import com.armirene.empleados.infrastructure.repository.PaisRepository;
+import com.armirene.empleados.infrastructure.repository.TipoIdentificacionRepository;
+
+@SpringBootTest(properties = "empleados.fotos.tamano-maximo=64KB")
+@AutoConfigureMockMvc
+class FotoSubidaTest {
+
+    private static final byte[] CABECERA_PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FotoService fotoService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private PaisRepository paisRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private TipoIdentificacionRepository tipoIdentificacionRepository;
+
+    @Autowired
+    private CorreoSecuenciaRepository correoSecuenciaRepository;
+
+    private Pais pais;
+    private Area area;
+    private TipoIdentificacion tipoIdentificacion;
+
+    @BeforeEach
+    void setUp() {
+        correoSecuenciaRepository.deleteAll();
+        pais = new Pais();
+        pais.setNombre("COLOMBIA");
+        pais = paisRepository.save(pais);
+        area = new Area();
+        area.setNombre("SISTEMAS");
+        area = areaRepository.save(area);
+        tipoIdentificacion = new TipoIdentificacion();
+        tipoIdentificacion.setAbrev("CC");
+        tipoIdentificacion = tipoIdentificacionRepository.save(tipoIdentificacion);
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+        correoSecuenciaRepository.deleteAll();
+        paisRepository.deleteAll();
+        areaRepository.deleteAll();
+        tipoIdentificacionRepository.deleteAll();
+    }
+
+    @Test
+    void testCrearEmpleadoMultipart_StoresPhotoFromFilePart() throws Exception {
+        byte[] imagen = imagen(4096);
+        String empleado = "{\"primerNombre\":\"JUAN\",\"otrosNombres\":\"CARLOS\",\"primerApellido\":\"PEREZ\","
+                + "\"segundoApellido\":\"LOPEZ\",\"numeroIdentificacion\":\"123456785\",\"fechaIngreso\":"
+                + System.currentTimeMillis() + ",\"idTipoIdentificacion\":" + tipoIdentificacion.getId()
+                + ",\"idPais\":" + pais.getId() + ",\"idArea\":" + area.getId() + "}";
+
+        mockMvc.perform(multipart("/crearEmpleado")
+                .file(new MockMultipartFile("empleado", "", MediaType.APPLICATION_JSON_VALUE, empleado.getBytes()))
+                .file(new MockMultipartFile("foto", "foto.png", MediaType.IMAGE_PNG_VALUE, imagen)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.correo").value("juan.perez@tuarmi.com.co"));
+
+        Empleado guardado = empleadoRepository.findAll().get(0);
+        assertNotNull(guardado.getFotoHash());
+        assertArrayEquals(imagen, fotoService.obtener(guardado.getFotoHash()).orElseThrow()
+                .getInputStream().readAllBytes());
+    }
+
+    @Test
+    void testSubirFoto_RawBody_ReplacesHash() throws Exception {
+        Empleado empleado = empleadoRepository.save(empleado());
+        byte[] imagen = imagen(20_000);
+
+        mockMvc.perform(put("/empleados/" + empleado.getId() + "/foto")
+                .contentType(MediaType.IMAGE_PNG)
+                .content(imagen))
+                .andExpect(status().isOk());
+
+        String hash = empleadoRepository.findById(empleado.getId()).orElseThrow().getFotoHash();
+        assertEquals(hash, fotoService.guardar(imagen), "el mismo contenido tiene el mismo hash");
+    }
+
+    @Test
+    void testSubirFoto_TooLarge_Rejected() throws Exception {
+        Empleado empleado = empleadoRepository.save(empleado());
+
+        mockMvc.perform(put("/empleados/" + empleado.getId() + "/foto")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(imagen(65 * 1024)))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.statusError").value("413 PAYLOAD_TOO_LARGE"));
+
+        assertNull(empleadoRepository.findById(empleado.getId()).orElseThrow().getFotoHash());
+    }
+
+    @Test
+    void testSubirFoto_NotAnImage_Rejected() throws Exception {
+        Empleado empleado = empleadoRepository.save(empleado());
+        byte[] texto = new byte[1024];
+        Arrays.fill(texto, (byte) 'a');
+
+        mockMvc.perform(put("/empleados/" + empleado.getId() + "/foto")
+                .contentType(MediaType.IMAGE_PNG)
+                .content(texto))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/empleados/0/foto")
+                .contentType(MediaType.IMAGE_PNG)
+                .content(imagen(1024)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testCrearEmpleadoJson_Base64Photo_SameChecksAsUpload() throws Exception {
+        byte[] texto = new byte[1024];
+        Arrays.fill(texto, (byte) 'a');
+
+        mockMvc.perform(post("/crearEmpleado")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(empleadoJson(texto)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/crearEmpleado")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(empleadoJson(imagen(65 * 1024))))
+                .andExpect(status().isPayloadTooLarge());
+        assertEquals(0, empleadoRepository.count());
+
+        byte[] imagen = imagen(4096);
+        mockMvc.perform(post("/crearEmpleado")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(empleadoJson(imagen)))
+                .andExpect(status().isCreated());
+        assertEquals(fotoService.guardar(imagen), empleadoRepository.findAll().get(0).getFotoHash());
+    }
+
+    private String empleadoJson(byte[] foto) {
+        return "{\"primerNombre\":\"JUAN\",\"otrosNombres\":\"CARLOS\",\"primerApellido\":\"PEREZ\","
+                + "\"segundoApellido\":\"LOPEZ\",\"numeroIdentificacion\":\"123456785\",\"fechaIngreso\":"
+                + System.currentTimeMillis() + ",\"idTipoIdentificacion\":" + tipoIdentificacion.getId()
+                + ",\"idPais\":" + pais.getId() + ",\"idArea\":" + area.getId()
+                + ",\"foto\":\"" + Base64.getEncoder().encodeToString(foto) + "\"}";
+    }
+
+    private Empleado empleado() {
+        Empleado empleado = new Empleado();
+        empleado.setPrimerNombre("ANA");
+        empleado.setPrimerApellido("GOMEZ");
+        empleado.setSegundoApellido("DIAZ");
+        empleado.setNumeroIdentificacion("987");
+        empleado.setCorreo("ana.gomez@tuarmi.com.co");
+        empleado.setEstado("ACTIVO");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setPais(pais);
+        empleado.setArea(area);
+        empleado.setTipoIdentificacion(tipoIdentificacion);
+        return empleado;
+    }
+
+    private byte[] imagen(int tamano) {
+        byte[] imagen = new byte[tamano];
+        new Random().nextBytes(imagen);
+        System.arraycopy(CABECERA_PNG, 0, imagen, 0, CABECERA_PNG.length);
+        return imagen;
+    }
+}
@@ -0,0 +1,181 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.armirene.empleados.domain.FotoService;
+import com.armirene.empleados.domain.MiniaturaService;
+import com.armirene.empleados.infrastructure.entity.Empleado;
+import com.armirene.empleados.infrastructure.repository.EmpleadoRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MiniaturaServiceImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FotoService fotoService;
+
+    @Autowired
+    private MiniaturaService miniaturaService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    @Qualifier("miniaturasExecutor")
+    private ThreadPoolTaskExecutor miniaturasExecutor;
+
+    private String hash;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BufferedImage imagen = new BufferedImage(600, 400, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graficos = imagen.createGraphics();
+        graficos.setColor(new Color(UUID.randomUUID().hashCode()));
+        graficos.fillRect(0, 0, 600, 400);
+        graficos.dispose();
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(imagen, "png", png);
+        hash = fotoService.guardar(png.toByteArray());
+    }
+
+    @AfterEach
+    void tearDown() {
+        empleadoRepository.deleteAll();
+    }
+
+    @Test
+    void testGenerar_StoresSquareJpegPerSize() throws Exception {
+        miniaturaService.generar(hash).get(10, TimeUnit.SECONDS);
+
+        assertEquals(48, lado(miniaturaService.obtener(hash, 48).orElseThrow()));
+        assertEquals(128, lado(miniaturaService.obtener(hash, 100).orElseThrow()));
+        assertEquals(256, lado(miniaturaService.obtener(hash, 256).orElseThrow()));
+        assertTrue(miniaturaService.obtener(hash, 1000).isEmpty(), "mayor que todas: se sirve la original");
+        assertEquals("image/jpeg",
+                fotoService.obtenerTipoContenido(miniaturaService.obtener(hash, 48).orElseThrow()));
+    }
+
+    @Test
+    void testFoto_ServesThumbnailOrOriginal() throws Exception {
+        Empleado empleado = new Empleado();
+        empleado.setPrimerNombre("JUAN");
+        empleado.setPrimerApellido("PEREZ");
+        empleado.setCorreo("juan.perez@tuarmi.com.co");
+        empleado.setFechaIngreso(new Date());
+        empleado.setFechaRegistro(new Timestamp(System.currentTimeMillis()));
+        empleado.setFotoHash(hash);
+        Long id = empleadoRepository.save(empleado).getId();
+        miniaturaService.generar(hash).get(10, TimeUnit.SECONDS);
+
+        mockMvc.perform(get("/empleados/" + id + "/foto").param("tamano", "48"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().string("ETag", "\"" + hash + "-48\""));
+        mockMvc.perform(get("/empleados/" + id + "/foto"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string("ETag", "\"" + hash + "\""));
+    }
+
+    @Test
+    void testGenerar_SameFotoInProgress_SharesTask() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<CompletableFuture<Void>> bloqueos = new ArrayList<>();
+        for (int i = 0; i < miniaturasExecutor.getMaxPoolSize(); i++) {
+            bloqueos.add(CompletableFuture.runAsync(() -> esperar(liberar), miniaturasExecutor));
+        }
+
+        CompletableFuture<Void> primera = miniaturaService.generar(hash);
+        CompletableFuture<Void> segunda = miniaturaService.generar(hash);
+        assertSame(primera, segunda);
+        assertTrue(miniaturaService.obtener(hash, 48).isEmpty());
+
+        liberar.countDown();
+        CompletableFuture.allOf(bloqueos.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        primera.get(10, TimeUnit.SECONDS);
+        assertTrue(miniaturaService.obtener(hash, 48).isPresent());
+    }
+
+    @Test
+    void testGenerar_UnprocessableFoto_NotRequeued() throws Exception {
+        byte[] aleatorio = UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII);
+        // WebP sin lector en ImageIO y PNG con la firma correcta pero contenido dañado.
+        String webp = fotoService.guardar(
+                concatenar("RIFF\0\0\0\0WEBP".getBytes(StandardCharsets.US_ASCII), aleatorio));
+        String png = fotoService.guardar(concatenar(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' },
+                aleatorio));
+
+        miniaturaService.generar(webp).get(10, TimeUnit.SECONDS);
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> miniaturaService.generar(png).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(UncheckedIOException.class, error.getCause());
+
+        long tareas = miniaturasExecutor.getThreadPoolExecutor().getTaskCount();
+        assertTrue(miniaturaService.generar(webp).isDone());
+        assertTrue(miniaturaService.generar(png).isDone());
+        assertTrue(miniaturaService.obtener(webp, 48).isEmpty());
+        assertTrue(miniaturaService.obtener(png, 48).isEmpty());
+        assertEquals(tareas, miniaturasExecutor.getThreadPoolExecutor().getTaskCount(), "no se vuelven a encolar");
+    }
+
+    private static byte[] concatenar(byte[] cabecera, byte[] resto) {
+        byte[] contenido = Arrays.copyOf(cabecera, cabecera.length + resto.length);
+        System.arraycopy(resto, 0, contenido, cabecera.length, resto.length);
+        return contenido;
+    }
+
+    private static void esperar(CountDownLatch liberar) {
+        try {
+            liberar.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int lado(Resource miniatura) throws Exception {
+        try (InputStream entrada = miniatura.getInputStream()) {
+            BufferedImage imagen = ImageIO.read(new ByteArrayInputStream(entrada.readAllBytes()));
+            assertEquals(imagen.getWidth(), imagen.getHeight());
+            return imagen.getWidth();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.armirene.empleados.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.armirene.empleados.infrastructure.dto.EmpleadoDto;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.OtrosNombresException;
+import com.armirene.empleados.infrastructure.exception.EmpleadoException.PrimerNombreException;
+import com.armirene.empleados.infrastructure.util.ValidacionUtil;
+import com.armirene.empleados.infrastructure.util.validacion.IdentificacionValidator;
+import com.armirene.empleados.infrastructure.util.validacion.SoloMayusculasValidator;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Compara las comprobaciones de {@link ValidacionUtil} y de las anotaciones
+ * {@code @SoloMayusculas} e {@code @Identificacion} con las expresiones
+ * regulares a las que reemplazaron.
+ */
+class ValidacionUtilTest {
+
+    private static final String NOMBRE = "^[A-Z]{1,20}$";
+
+    private static final String OTROS_NOMBRES = "^[A-Z ]{0,50}$";
+
+    private static final String SOLO_MAYUSCULAS = "^[A-Z ]+$";
+
+    private static final String IDENTIFICACION = "^[a-zA-Z0-9-]+$";
+
+    private static final List<String> VALORES = List.of(
+            "", " ", "  ", "\t", "A", "Z", "JUAN", "JUAN CARLOS", " JUAN ", "Juan", "juan",
+            "JOSÉ", "MUÑOZ", "ÑANDU", "muñoz", "Á", "ü", "ＪＵＡＮ", "JUAN-CARLOS", "JUAN1", "O'NEIL",
+            "A".repeat(20), "A".repeat(21), "A B".repeat(16) + "AB", "A B".repeat(16) + "ABC",
+            "1234567890", "CC-123", "abc-XYZ-09", "-", "abc_1", "123 456", "12.345", "é1", "١٢٣");
+
+    @Test
+    void testNombres_MatchFormerPatterns() {
+        assertEquals(50, ("A B".repeat(16) + "AB").length());
+        for (String valor : VALORES) {
+            assertEquals(valor.matches(NOMBRE), ValidacionUtil.esNombre(valor, 20), "esNombre: '" + valor + "'");
+            assertEquals(valor.matches(OTROS_NOMBRES), ValidacionUtil.esNombres(valor, 50),
+                    "esNombres: '" + valor + "'");
+            assertEquals(valor.matches(IDENTIFICACION), ValidacionUtil.esIdentificacion(valor),
+                    "esIdentificacion: '" + valor + "'");
+        }
+        assertFalse(ValidacionUtil.esNombre(null, 20));
+        assertFalse(ValidacionUtil.esNombres(null, 50));
+        assertFalse(ValidacionUtil.esIdentificacion(null));
+    }
+
+    @Test
+    void testAnotaciones_MatchFormerPatterns() {
+        SoloMayusculasValidator soloMayusculas = new SoloMayusculasValidator();
+        IdentificacionValidator identificacion = new IdentificacionValidator();
+        for (String valor : VALORES) {
+            assertEquals(valor.matches(SOLO_MAYUSCULAS), soloMayusculas.isValid(valor, null),
+                    "@SoloMayusculas: '" + valor + "'");
+            assertEquals(valor.matches(IDENTIFICACION), identificacion.isValid(valor, null),
+                    "@Identificacion: '" + valor + "'");
+        }
+        // Igual que @Pattern, los nulos los rechaza @NotBlank y no estas anotaciones.
+        assertTrue(soloMayusculas.isValid(null, null));
+        assertTrue(identificacion.isValid(null, null));
+
+        try (var fabrica = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = fabrica.getValidator();
+            for (String valor : VALORES) {
+                assertEquals(valor.matches(IDENTIFICACION),
+                        validator.validateValue(EmpleadoDto.class, "numeroIdentificacion", valor).isEmpty(),
+                        "numeroIdentificacion: '" + valor + "'");
+            }
+        }
+    }
+
+    @Test
+    void testValidarEmpleado_SameExceptionsAsFormerChecks() {
+        for (String valor : VALORES) {
+            EmpleadoDto primerNombre = crearDto();
+            primerNombre.setPrimerNombre(valor);
+            RuntimeException esperada = valor.isEmpty() ? PrimerNombreException.REQUERIDO
+                    : !valor.matches(NOMBRE) ? PrimerNombreException.INVALIDO : null;
+            assertSame(esperada, lanzada(primerNombre), "primerNombre: '" + valor + "'");
+
+            EmpleadoDto otrosNombres = crearDto();
+            otrosNombres.setOtrosNombres(valor);
+            esperada = valor.length() > 50 ? OtrosNombresException.LONGITUD
+                    : !valor.matches(OTROS_NOMBRES) ? OtrosNombresException.INVALIDO : null;
+            assertSame(esperada, lanzada(otrosNombres), "otrosNombres: '" + valor + "'");
+        }
+        EmpleadoDto sinNombre = crearDto();
+        sinNombre.setPrimerNombre(null);
+        assertSame(PrimerNombreException.REQUERIDO, lanzada(sinNombre));
+        EmpleadoDto sinOtrosNombres = crearDto();
+        sinOtrosNombres.setOtrosNombres(null);
+        assertNull(lanzada(sinOtrosNombres));
+    }
+
+    private static RuntimeException lanzada(EmpleadoDto empleadoDto) {
+        try {
+            ValidacionUtil.validarEmpleado(empleadoDto);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static EmpleadoDto crearDto() {
+        EmpleadoDto empleadoDto = new EmpleadoDto();
+        empleadoDto.setPrimerNombre("JUAN");
+        empleadoDto.setOtrosNombres("CARLOS");
+        empleadoDto.setPrimerApellido("PEREZ");
+        empleadoDto.setSegundoApellido("LOPEZ");
+        empleadoDto.setNumeroIdentificacion("123");
+        empleadoDto.setFechaIngreso(new Date());
+        return empleadoDto;
+    }
+}